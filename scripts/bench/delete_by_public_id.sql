@@ -0,0 +1,5 @@
+-- pgbench script: ArticleRepository.deleteByPublicId, rolled back so the data set stays intact.
+\set n random(1, :rows)
+BEGIN;
+DELETE FROM tb_articles WHERE public_id = md5(:n::text)::uuid::text;
+ROLLBACK;
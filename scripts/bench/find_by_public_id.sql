@@ -0,0 +1,5 @@
+-- pgbench script: ArticleRepository.findByPublicId on a random seeded row.
+\set n random(1, :rows)
+SELECT id, public_id, title, description, is_published
+FROM tb_articles
+WHERE public_id = md5(:n::text)::uuid::text;
@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+# Benchmarks tb_articles point queries at scale with pgbench.
+#
+# Usage: scripts/bench/run.sh [rows] [clients] [seconds]
+# Connection settings come from the usual PG* variables (PGHOST, PGUSER, PGDATABASE, ...).
+# Start the application once first so Flyway has created the schema.
+# Set SKIP_SEED=1 to rerun against an already seeded database.
+set -euo pipefail
+
+ROWS=${1:-100000000}
+CLIENTS=${2:-16}
+SECONDS_PER_RUN=${3:-60}
+DIR=$(cd "$(dirname "$0")" && pwd)
+
+if [[ -z "${SKIP_SEED:-}" ]]; then
+  echo "Seeding ${ROWS} articles..."
+  psql -v ON_ERROR_STOP=1 -v rows="${ROWS}" -f "${DIR}/seed.sql"
+fi
+
+echo "Plan for a lookup by public_id (expect a single partition in the plan):"
+psql -c "EXPLAIN (COSTS OFF) SELECT * FROM tb_articles WHERE public_id = md5('42')::uuid::text"
+
+echo "Table and index sizes per partition:"
+psql -c "SELECT c.relname, pg_size_pretty(pg_table_size(c.oid)) AS heap, pg_size_pretty(pg_indexes_size(c.oid)) AS indexes
+         FROM pg_class c WHERE c.relname LIKE 'tb_articles%' AND c.relkind = 'r' ORDER BY c.relname"
+
+for script in find_by_public_id delete_by_public_id; do
+  echo "pgbench ${script}: ${CLIENTS} clients, ${SECONDS_PER_RUN}s"
+  pgbench -n -c "${CLIENTS}" -j "${CLIENTS}" -T "${SECONDS_PER_RUN}" -D rows="${ROWS}" -f "${DIR}/${script}.sql"
+done
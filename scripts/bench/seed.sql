@@ -0,0 +1,13 @@
+-- Seeds tb_articles with :rows synthetic articles.
+-- Row i gets public_id md5(i)::uuid, so benchmark scripts can address any row without a lookup table.
+--   psql -v rows=100000000 -f scripts/bench/seed.sql
+
+INSERT INTO tb_articles (id, public_id, title, description, is_published)
+SELECT nextval('tb_articles_seq'),
+       md5(i::text)::uuid::text,
+       'Article ' || i,
+       repeat('lorem ipsum ', 16),
+       i % 3 = 0
+FROM generate_series(1, :rows) AS i;
+
+ANALYZE tb_articles;
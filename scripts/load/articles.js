@@ -0,0 +1,69 @@
+// k6 load test for the article API.
+//
+//   k6 run scripts/load/articles.js
+//   k6 run -e BASE_URL=http://host:8080 -e READ_RATE=2000 -e WRITE_RATE=200 -e DURATION=5m scripts/load/articles.js
+//
+// Watch the pool while it runs:
+//   curl -s localhost:8080/actuator/prometheus | grep hikaricp_connections
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    writes: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.WRITE_RATE || 50),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+      exec: 'createArticle',
+    },
+    reads: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.READ_RATE || 500),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+      exec: 'readArticle',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{scenario:reads}': ['p(99)<100'],
+    'http_req_duration{scenario:writes}': ['p(99)<250'],
+  },
+};
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < 100; i++) {
+    const res = http.post(`${BASE_URL}/api/articles`, article(i), { headers: { 'Content-Type': 'application/json' } });
+    if (res.status === 201) {
+      ids.push(res.json('id'));
+    }
+  }
+  return { ids };
+}
+
+export function createArticle() {
+  const res = http.post(`${BASE_URL}/api/articles`, article(__ITER), { headers: { 'Content-Type': 'application/json' } });
+  check(res, { 'created': (r) => r.status === 201 });
+}
+
+export function readArticle(data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const res = http.get(`${BASE_URL}/api/articles/${id}`);
+  check(res, { 'found': (r) => r.status === 200 });
+}
+
+function article(i) {
+  return JSON.stringify({
+    title: `Load test article ${i}`,
+    description: `Generated by the k6 load test, iteration ${i}`,
+  });
+}
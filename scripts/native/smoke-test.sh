@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# Smoke test for the native executable: starts target/demo-crud and exercises every ArticleController endpoint.
+#
+# Usage: scripts/native/smoke-test.sh [executable]
+# Needs a running database; pass extra application arguments in APP_ARGS.
+set -euo pipefail
+
+EXECUTABLE=${1:-$(cd "$(dirname "$0")/../../target" && pwd)/demo-crud}
+PORT=${PORT:-8080}
+BASE="http://localhost:${PORT}/api/articles"
+LOG=$(mktemp)
+
+fail() {
+  echo "FAIL: $*" >&2
+  tail -50 "${LOG}" >&2
+  exit 1
+}
+
+expect_status() {
+  local expected=$1 actual=$2 step=$3
+  [[ "${actual}" == "${expected}" ]] || fail "${step}: expected HTTP ${expected}, got ${actual}"
+  echo "ok   ${step} (${actual})"
+}
+
+start=$(date +%s%N)
+# shellcheck disable=SC2086
+"${EXECUTABLE}" --server.port="${PORT}" ${APP_ARGS:-} > "${LOG}" 2>&1 &
+pid=$!
+trap 'kill ${pid} 2>/dev/null || true' EXIT
+until curl -sf -o /dev/null "${BASE}"; do
+  kill -0 "${pid}" 2>/dev/null || fail "application exited during startup"
+  sleep 0.01
+done
+echo "ok   started in $(( ($(date +%s%N) - start) / 1000000 )) ms, RSS $(( $(ps -o rss= -p "${pid}") / 1024 )) MiB"
+
+body=$(mktemp)
+status=$(curl -s -o "${body}" -w '%{http_code}' -X POST "${BASE}" -H 'Content-Type: application/json' \
+  -d '{"title":"Native smoke test","description":"Created by scripts/native/smoke-test.sh"}')
+expect_status 201 "${status}" "POST /api/articles"
+id=$(sed -E 's/.*"id":"([^"]+)".*/\1/' "${body}")
+
+status=$(curl -s -o "${body}" -w '%{http_code}' "${BASE}")
+expect_status 200 "${status}" "GET /api/articles"
+grep -q "${id}" "${body}" || fail "created article missing from listing"
+
+status=$(curl -s -o "${body}" -w '%{http_code}' "${BASE}/${id}")
+expect_status 200 "${status}" "GET /api/articles/{id}"
+grep -q '"title":"Native smoke test"' "${body}" || fail "unexpected article body: $(cat "${body}")"
+
+status=$(curl -s -o /dev/null -w '%{http_code}' -X DELETE "${BASE}/${id}")
+expect_status 204 "${status}" "DELETE /api/articles/{id}"
+
+status=$(curl -s -o "${body}" -w '%{http_code}' "${BASE}/${id}")
+expect_status 404 "${status}" "GET deleted article"
+grep -q '"errorId"' "${body}" || fail "error response not serialized: $(cat "${body}")"
+
+status=$(curl -s -o "${body}" -w '%{http_code}' -X POST "${BASE}" -H 'Content-Type: application/json' -d '{"title":""}')
+expect_status 400 "${status}" "POST invalid article"
+grep -q '"validationErrors"' "${body}" || fail "validation errors not serialized: $(cat "${body}")"
+
+echo "Smoke test passed"
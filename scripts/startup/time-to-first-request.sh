@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Measures time from process start to the first successful GET /api/articles.
+#
+# Usage: scripts/startup/time-to-first-request.sh [jar|cds|native] [runs]
+#   jar    - plain executable jar          (mvn package)
+#   cds    - AOT-processed jar + AppCDS    (mvn -Pcds package)
+#   native - GraalVM native executable     (mvn -Pnative native:compile)
+# Extra JVM/application arguments can be passed in APP_ARGS. Needs a running database.
+set -euo pipefail
+
+MODE=${1:-jar}
+RUNS=${2:-5}
+PORT=${PORT:-8080}
+URL="http://localhost:${PORT}/api/articles"
+TARGET=$(cd "$(dirname "$0")/../../target" && pwd)
+JAR_NAME=demo-crud-0.0.1-SNAPSHOT
+
+case "${MODE}" in
+  jar)    COMMAND=(java -jar "${TARGET}/${JAR_NAME}.jar") ;;
+  cds)    COMMAND=(java -XX:SharedArchiveFile="${TARGET}/cds/application.jsa" -Dspring.aot.enabled=true
+                   -jar "${TARGET}/cds/${JAR_NAME}.jar") ;;
+  native) COMMAND=("${TARGET}/demo-crud") ;;
+  *)      echo "Unknown mode ${MODE}" >&2; exit 1 ;;
+esac
+
+total=0
+for run in $(seq 1 "${RUNS}"); do
+  start=$(date +%s%N)
+  # shellcheck disable=SC2086
+  "${COMMAND[@]}" --server.port="${PORT}" ${APP_ARGS:-} > "${TARGET}/startup-${MODE}.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "${URL}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "Application exited, see ${TARGET}/startup-${MODE}.log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss=$(ps -o rss= -p "${pid}" | tr -d ' ')
+  kill "${pid}"; wait "${pid}" 2>/dev/null || true
+  echo "run ${run}: ${elapsed} ms to first request, RSS $(( rss / 1024 )) MiB"
+  total=$(( total + elapsed ))
+done
+echo "${MODE}: mean ${total}/${RUNS} = $(( total / RUNS )) ms"
@@ -0,0 +1,40 @@
+package com.democrud.config;
+
+import com.democrud.config.tracing.TracingJacksonHttpMessageConverter;
+import com.democrud.presentation.article.ArticleProtobufHttpMessageConverter;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds the binary article representations. CBOR and Smile converters are registered by
+ * Spring MVC itself once their Jackson data formats are on the classpath.
+ *
+ * Converters are appended, not prepended: for {@code Accept: *}{@code /*} the first
+ * converter wins, and that has to stay JSON. The JSON converter is replaced in place by
+ * one that traces serialization.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public MessageConverterConfig(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TracingJacksonHttpMessageConverter(
+                        ((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), registry)
+                : converter);
+        converters.add(new ArticleProtobufHttpMessageConverter());
+    }
+}
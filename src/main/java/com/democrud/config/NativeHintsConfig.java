@@ -0,0 +1,72 @@
+package com.democrud.config;
+
+import com.democrud.config.exception.ErrorResponse;
+import com.democrud.domain.Article;
+import com.democrud.domain.ArticleCounter;
+import com.democrud.domain.ArticleOutboxEvent;
+import com.democrud.domain.ArticleViewCount;
+import com.democrud.domain.IdempotencyRecord;
+import com.democrud.presentation.article.dto.ArticleChangeDTO;
+import com.democrud.presentation.article.dto.ArticleChangesResponseDTO;
+import com.democrud.presentation.article.dto.ArticleImportResultDTO;
+import com.democrud.presentation.article.dto.ArticleMultiGetRequestDTO;
+import com.democrud.presentation.article.dto.ArticleMultiGetResponseDTO;
+import com.democrud.presentation.article.dto.ArticleRequestDTO;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.presentation.article.dto.ArticleStatsDTO;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection and resource hints for the GraalVM native image.
+ *
+ * Spring AOT already covers controller signatures, repositories and the JPA metamodel.
+ * These hints add what it cannot see: DTOs serialized outside controllers (outbox
+ * payloads, import rows, SSE events), the Lombok-generated accessors and builders
+ * used through reflection, and the Flyway migration scripts including their
+ * .sql.conf files.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.DemoCrudRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class DemoCrudRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    ArticleRequestDTO.class,
+                    ArticleResponseDTO.class,
+                    ArticleImportResultDTO.class,
+                    ArticleChangeDTO.class,
+                    ArticleChangesResponseDTO.class,
+                    ArticleMultiGetRequestDTO.class,
+                    ArticleMultiGetResponseDTO.class,
+                    ArticleStatsDTO.class,
+                    ErrorResponse.class,
+                    ErrorResponse.ValidationError.class);
+
+            for (Class<?> type : new Class<?>[] {
+                    Article.class,
+                    ArticleOutboxEvent.class,
+                    ArticleCounter.class,
+                    ArticleViewCount.class,
+                    IdempotencyRecord.class,
+                    ErrorResponse.ErrorResponseBuilder.class,
+                    ErrorResponse.ValidationError.ValidationErrorBuilder.class}) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            hints.resources().registerPattern("db/migration/*");
+        }
+    }
+}
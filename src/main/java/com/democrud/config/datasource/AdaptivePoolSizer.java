@@ -0,0 +1,133 @@
+package com.democrud.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the Hikari pools within fixed bounds based on how long requests wait for a
+ * connection compared to how long they hold one.
+ *
+ * When callers queue for a connection and the mean wait exceeds the configured share
+ * of the mean usage time, the pool is the bottleneck and grows by one step. If the
+ * database itself is saturated, usage time rises with the pool size and growth stops
+ * by itself. With no one waiting and at least a step's worth of idle connections the
+ * pool shrinks again. Both means are taken over the last interval only.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "democrud.datasource.pool.adaptive.enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private final List<HikariDataSource> pools;
+    private final MeterRegistry meterRegistry;
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final double growWaitRatio;
+    private final Map<String, TimerSnapshot> previous = new ConcurrentHashMap<>();
+
+    public AdaptivePoolSizer(List<DataSource> dataSources,
+                             MeterRegistry meterRegistry,
+                             @Value("${democrud.datasource.pool.adaptive.min-size:5}") int minSize,
+                             @Value("${democrud.datasource.pool.adaptive.max-size:40}") int maxSize,
+                             @Value("${democrud.datasource.pool.adaptive.step:2}") int step,
+                             @Value("${democrud.datasource.pool.adaptive.grow-wait-ratio:0.5}") double growWaitRatio) {
+        this.pools = hikariPools(dataSources);
+        this.meterRegistry = meterRegistry;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.growWaitRatio = growWaitRatio;
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.datasource.pool.adaptive.interval:PT10S}")
+    public void resize() {
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean poolState = pool.getHikariPoolMXBean();
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+            Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", pool.getPoolName()).timer();
+            if (poolState == null || acquire == null || usage == null) {
+                continue;
+            }
+            TimerSnapshot current = new TimerSnapshot(acquire.count(), acquire.totalTime(TimeUnit.NANOSECONDS),
+                    usage.count(), usage.totalTime(TimeUnit.NANOSECONDS));
+            TimerSnapshot last = previous.put(pool.getPoolName(), current);
+            if (last == null) {
+                continue;
+            }
+            int size = pool.getMaximumPoolSize();
+            int target = targetSize(size, current.meanAcquireSince(last), current.meanUsageSince(last),
+                    poolState.getThreadsAwaitingConnection(), poolState.getIdleConnections());
+            if (target != size) {
+                log.info("Resizing pool {} from {} to {} connections", pool.getPoolName(), size, target);
+                pool.getHikariConfigMXBean().setMaximumPoolSize(target);
+                if (pool.getMinimumIdle() > target) {
+                    pool.getHikariConfigMXBean().setMinimumIdle(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * The instrumented dataSource bean is a proxy around its pool, so pools are found by
+     * unwrapping; the primary pool can be reachable through several beans.
+     */
+    private static List<HikariDataSource> hikariPools(List<DataSource> dataSources) {
+        Set<HikariDataSource> pools = new LinkedHashSet<>();
+        for (DataSource dataSource : dataSources) {
+            try {
+                if (dataSource instanceof HikariDataSource pool) {
+                    pools.add(pool);
+                } else if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(dataSource.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException ex) {
+                log.debug("Cannot unwrap data source {}", dataSource, ex);
+            }
+        }
+        return List.copyOf(pools);
+    }
+
+    List<HikariDataSource> pools() {
+        return pools;
+    }
+
+    int targetSize(int size, double meanAcquireNanos, double meanUsageNanos, int waiting, int idle) {
+        if (waiting > 0 && meanAcquireNanos > meanUsageNanos * growWaitRatio) {
+            return Math.min(maxSize, size + step);
+        }
+        if (waiting == 0 && idle >= step) {
+            return Math.max(minSize, size - step);
+        }
+        return size;
+    }
+
+    private record TimerSnapshot(long acquireCount, double acquireNanos, long usageCount, double usageNanos) {
+
+        private double meanAcquireSince(TimerSnapshot last) {
+            long count = acquireCount - last.acquireCount;
+            return count > 0 ? (acquireNanos - last.acquireNanos) / count : 0;
+        }
+
+        private double meanUsageSince(TimerSnapshot last) {
+            long count = usageCount - last.usageCount;
+            return count > 0 ? (usageNanos - last.usageNanos) / count : 0;
+        }
+    }
+}
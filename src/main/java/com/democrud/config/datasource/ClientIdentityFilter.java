@@ -0,0 +1,33 @@
+package com.democrud.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the calling client to the request thread for read-your-writes routing.
+ */
+public class ClientIdentityFilter extends OncePerRequestFilter {
+
+    private final String clientIdHeader;
+
+    public ClientIdentityFilter(String clientIdHeader) {
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(clientIdHeader);
+        ClientWriteTracker.bindClient(clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientWriteTracker.clearClient();
+        }
+    }
+}
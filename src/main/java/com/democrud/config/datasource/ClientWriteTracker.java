@@ -0,0 +1,67 @@
+package com.democrud.config.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients wrote recently so their reads can stay on the primary
+ * until replicas had time to catch up.
+ *
+ * The client of the current request is bound to the request thread by
+ * {@link ClientIdentityFilter}; work outside a request has no client and is never tracked.
+ */
+public class ClientWriteTracker {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final Clock clock;
+
+    public ClientWriteTracker(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ClientWriteTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public static void bindClient(String clientId) {
+        CURRENT_CLIENT.set(clientId);
+    }
+
+    public static void clearClient() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client != null) {
+            lastWrites.put(client, clock.millis());
+        }
+    }
+
+    public boolean currentClientWroteRecently() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(client);
+        return lastWrite != null && clock.millis() - lastWrite < windowMillis;
+    }
+
+    /**
+     * Drops clients whose window has passed, keeping the map proportional to recent writers.
+     */
+    public void purgeExpired() {
+        long cutoff = clock.millis() - windowMillis;
+        lastWrites.values().removeIf(lastWrite -> lastWrite < cutoff);
+    }
+
+    int trackedClients() {
+        return lastWrites.size();
+    }
+}
@@ -0,0 +1,59 @@
+package com.democrud.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to replica databases.
+ */
+@Data
+@ConfigurationProperties(prefix = "democrud.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Whether read-only transactions are routed to replicas at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How a replica is picked among the healthy ones.
+     */
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+
+    /**
+     * How long after a client's own write its reads keep going to the primary.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Request header identifying a client for read-your-writes; the remote address is used when absent.
+     */
+    private String clientIdHeader = "X-Client-Id";
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Replicas lagging further behind the primary than this are taken out of rotation.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(10);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public enum Strategy { ROUND_ROBIN, LEAST_CONNECTIONS }
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,159 @@
+package com.democrud.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * The decision is made when a connection is actually fetched, so this data source has to
+ * sit behind a LazyConnectionDataSourceProxy: by the time the first statement runs the
+ * transaction's read-only flag is known. Reads of a client that wrote within the
+ * read-your-writes window stay on the primary, as do all reads while no replica is healthy.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final String REPLICATION_LAG_SQL =
+            "SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) "
+                    + "FROM (SELECT pg_is_in_recovery() AS recovering) r WHERE r.recovering";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final DataSourceRoutingProperties.Strategy strategy;
+    private final ClientWriteTracker writeTracker;
+    private final Duration maxReplicationLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      List<? extends DataSource> replicas,
+                                      DataSourceRoutingProperties.Strategy strategy,
+                                      ClientWriteTracker writeTracker,
+                                      Duration maxReplicationLag) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.strategy = strategy;
+        this.writeTracker = writeTracker;
+        this.maxReplicationLag = maxReplicationLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTargetDataSource().getConnection(username, password);
+    }
+
+    DataSource determineTargetDataSource() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                writeTracker.recordWrite();
+            }
+            return primary;
+        }
+        if (writeTracker.currentClientWroteRecently()) {
+            return primary;
+        }
+        DataSource replica = selectReplica();
+        return replica != null ? replica : primary;
+    }
+
+    /**
+     * Probes every replica and takes unreachable or lagging ones out of rotation until they recover.
+     */
+    @Scheduled(fixedDelayString = "${democrud.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy = probe(replica.dataSource);
+            if (healthy != replica.healthy) {
+                log.warn("Replica {} is now {}", replica, healthy ? "healthy" : "unhealthy");
+            }
+            replica.healthy = healthy;
+        }
+        writeTracker.purgeExpired();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    int healthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private DataSource selectReplica() {
+        List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (strategy == DataSourceRoutingProperties.Strategy.LEAST_CONNECTIONS) {
+            return healthy.stream()
+                    .min(Comparator.comparingInt(Replica::activeConnections))
+                    .orElseThrow()
+                    .dataSource;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).dataSource;
+    }
+
+    private boolean probe(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                return !resultSet.next() || resultSet.getDouble(1) * 1000 <= maxReplicationLag.toMillis();
+            }
+        } catch (SQLException ex) {
+            log.debug("Replica health check failed", ex);
+            return false;
+        }
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return dataSource instanceof HikariDataSource hikari ? hikari.getPoolName() : dataSource.toString();
+        }
+    }
+}
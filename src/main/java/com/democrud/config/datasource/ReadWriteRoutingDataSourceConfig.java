@@ -0,0 +1,92 @@
+package com.democrud.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions
+ * to replicas when {@code democrud.datasource.routing.enabled=true}.
+ *
+ * The primary pool is still configured from spring.datasource.*; replicas are listed
+ * under democrud.datasource.routing.replicas and get their own read-only pools.
+ */
+@Configuration
+@ConditionalOnProperty(name = "democrud.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class ReadWriteRoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ClientWriteTracker clientWriteTracker(DataSourceRoutingProperties properties) {
+        return new ClientWriteTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 ClientWriteTracker clientWriteTracker,
+                                                                 DataSourceRoutingProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        List<DataSourceRoutingProperties.Replica> replicas = properties.getReplicas();
+        List<HikariDataSource> replicaPools = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaPools.add(replicaPool(replicas.get(i), "replica-" + (i + 1), primaryDataSource, meterRegistry));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaPools, properties.getStrategy(),
+                clientWriteTracker, properties.getMaxReplicationLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientIdentityFilter> clientIdentityFilter(DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ClientIdentityFilter> registration =
+                new FilterRegistrationBean<>(new ClientIdentityFilter(properties.getClientIdHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Replica pools share the driver settings of the primary. They are not beans, so they
+     * register their hikaricp.* metrics themselves.
+     */
+    private static HikariDataSource replicaPool(DataSourceRoutingProperties.Replica replica, String poolName,
+                                                HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setDataSourceProperties(primary.getDataSourceProperties());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricRegistry(meterRegistry);
+        // Replicas may be down at startup; the health check keeps them out of rotation until they answer.
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,31 @@
+package com.democrud.config.exception;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for an error response produced by GlobalExceptionHandler.
+ */
+@Name("com.democrud.ApiError")
+@Label("API Error")
+@Category({"Demo CRUD", "Errors"})
+@Description("Error response returned by the API")
+@StackTrace(false)
+final class ApiErrorEvent extends Event {
+
+    @Label("Error Type")
+    String errorType;
+
+    @Label("Exception")
+    Class<?> exceptionClass;
+
+    @Label("Status")
+    int status;
+
+    @Label("Error ID")
+    String errorId;
+}
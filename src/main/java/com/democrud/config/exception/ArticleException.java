@@ -80,4 +80,70 @@ public class ArticleException extends RuntimeException {
                 ErrorType.BUSINESS_LOGIC_ERROR
         );
     }
+
+    /**
+     * Factory method for an Idempotency-Key replayed with a different payload.
+     */
+    public static ArticleException idempotencyKeyReused(String key) {
+        return new ArticleException(
+                String.format("Idempotency-Key %s was already used with a different request payload", key),
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                ErrorType.BUSINESS_LOGIC_ERROR
+        );
+    }
+
+    /**
+     * Factory method for an Idempotency-Key whose original request has not completed yet.
+     */
+    public static ArticleException idempotencyKeyInProgress(String key) {
+        return new ArticleException(
+                String.format("A request with Idempotency-Key %s is still being processed, retry later", key),
+                HttpStatus.CONFLICT,
+                ErrorType.BUSINESS_LOGIC_ERROR
+        );
+    }
+
+    /**
+     * Factory method for an Idempotency-Key whose original request was rolled back.
+     */
+    public static ArticleException idempotentRequestRolledBack(String key) {
+        return new ArticleException(
+                String.format("The request with Idempotency-Key %s was rolled back, retry it", key),
+                HttpStatus.CONFLICT,
+                ErrorType.BUSINESS_LOGIC_ERROR
+        );
+    }
+
+    /**
+     * Factory method for rejecting asynchronous writes while the ingestion queue is full.
+     */
+    public static ArticleException ingestionQueueFull() {
+        return new ArticleException(
+                "Article ingestion queue is full, retry later",
+                HttpStatus.TOO_MANY_REQUESTS,
+                ErrorType.TOO_MANY_REQUESTS
+        );
+    }
+
+    /**
+     * Factory method for rejecting stream subscriptions beyond the configured limit.
+     */
+    public static ArticleException tooManySubscribers() {
+        return new ArticleException(
+                "Too many article stream subscribers, retry later",
+                HttpStatus.TOO_MANY_REQUESTS,
+                ErrorType.TOO_MANY_REQUESTS
+        );
+    }
+
+    /**
+     * Factory method for rejecting a profiling recording while another one is running.
+     */
+    public static ArticleException recordingInProgress() {
+        return new ArticleException(
+                "A profiling recording is already running, retry once it has finished",
+                HttpStatus.CONFLICT,
+                ErrorType.BUSINESS_LOGIC_ERROR
+        );
+    }
 }
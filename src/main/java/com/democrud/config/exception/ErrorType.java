@@ -36,7 +36,12 @@ public enum ErrorType {
     /**
      * Business logic errors - when business rules are violated
      */
-    BUSINESS_LOGIC_ERROR("Business Logic Error");
+    BUSINESS_LOGIC_ERROR("Business Logic Error"),
+
+    /**
+     * Too many requests - when the service sheds load instead of queueing more work
+     */
+    TOO_MANY_REQUESTS("Too Many Requests");
 
     private final String description;
 
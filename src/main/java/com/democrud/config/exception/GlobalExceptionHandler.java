@@ -1,8 +1,10 @@
 package com.democrud.config.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
@@ -11,10 +13,13 @@ import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,12 +37,14 @@ import java.util.stream.Collectors;
  * - Proper HTTP status codes
  * - Detailed logging for debugging
  * - Swagger documentation integration
- * - Unique error tracking IDs
+ * - Unique error tracking IDs, taken from the trace ID when the request is traced
  */
 @ControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    static final String TRACE_ID_KEY = "traceId";
+
     /**
      * Handles ResponseStatusException thrown by service layer.
      * This is the main exception type used in the current codebase.
@@ -62,7 +69,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, status);
+        return respond(ex, errorResponse, status);
     }
 
     /**
@@ -87,7 +94,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, ex.getStatus());
+        return respond(ex, errorResponse, ex.getStatus());
     }
 
     /**
@@ -119,7 +126,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return respond(ex, errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     /**
@@ -151,7 +158,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return respond(ex, errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     /**
@@ -176,7 +183,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return respond(ex, errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     /**
@@ -212,7 +219,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return respond(ex, errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     /**
@@ -241,7 +248,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.METHOD_NOT_ALLOWED);
+        return respond(ex, errorResponse, HttpStatus.METHOD_NOT_ALLOWED);
     }
 
     /**
@@ -266,7 +273,33 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return respond(ex, errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles 404 Not Found errors for paths that match neither a handler nor a static resource,
+     * e.g. the API docs when springdoc is disabled.
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFoundException(
+            NoResourceFoundException ex, WebRequest request) {
+
+        String errorId = generateErrorId();
+
+        log.warn("No resource found [{}]: {} {} - Path: {}",
+                errorId, ex.getHttpMethod(), ex.getResourcePath(), getPath(request));
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .error(ErrorType.RESOURCE_NOT_FOUND.getDescription())
+                .message("Endpoint not found")
+                .details(String.format("No handler found for %s /%s", ex.getHttpMethod(), ex.getResourcePath()))
+                .path(getPath(request))
+                .timestamp(LocalDateTime.now())
+                .errorId(errorId)
+                .build();
+
+        return respond(ex, errorResponse, HttpStatus.NOT_FOUND);
     }
 
     /**
@@ -280,6 +313,7 @@ public class GlobalExceptionHandler {
         
         log.error("Database error [{}]: {} - Path: {}", 
                 errorId, ex.getMessage(), getPath(request), ex);
+        markObservationError(ex, request);
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
@@ -291,7 +325,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return respond(ex, errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     /**
@@ -305,6 +339,7 @@ public class GlobalExceptionHandler {
         
         log.error("Unexpected error [{}]: {} - Path: {}", 
                 errorId, ex.getMessage(), getPath(request), ex);
+        markObservationError(ex, request);
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
@@ -316,7 +351,7 @@ public class GlobalExceptionHandler {
                 .errorId(errorId)
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return respond(ex, errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     /**
@@ -349,10 +384,42 @@ public class GlobalExceptionHandler {
         return request.getDescription(false).replace("uri=", "");
     }
 
+    /**
+     * Emits the error as a Flight Recorder event and wraps it into the response.
+     */
+    private ResponseEntity<ErrorResponse> respond(Exception ex, ErrorResponse errorResponse, HttpStatusCode status) {
+        ApiErrorEvent event = new ApiErrorEvent();
+        if (event.isEnabled()) {
+            event.errorType = errorResponse.getError();
+            event.exceptionClass = ex.getClass();
+            event.status = status.value();
+            event.errorId = errorResponse.getErrorId();
+            event.commit();
+        }
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    /**
+     * Records a handled server error on the request observation. Exceptions resolved here
+     * never reach the observation filter, so the trace would otherwise not be marked failed.
+     */
+    private void markObservationError(Exception ex, WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            ServerHttpObservationFilter.findObservationContext(servletRequest.getRequest())
+                    .ifPresent(context -> context.setError(ex));
+        }
+    }
+
     /**
      * Generates a unique error ID for tracking purposes.
+     * Traced requests reuse their trace ID, so an error reported by a client leads
+     * straight to the spans of the failing request.
      */
     private String generateErrorId() {
+        String traceId = MDC.get(TRACE_ID_KEY);
+        if (traceId != null && !traceId.isBlank()) {
+            return "ERR-" + traceId;
+        }
         return "ERR-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 }
@@ -0,0 +1,153 @@
+package com.democrud.config.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which traces to export once they are complete, instead of when they start.
+ *
+ * Every span is recorded, and finished spans are held back per trace until the local root
+ * span ends. The whole trace is then passed to the delegate if the root took at least
+ * {@code slowThreshold}, if any span failed or the request ended with a server error, or
+ * otherwise for a {@code baselineRatio} share of traces. Head sampling would have to decide
+ * before knowing any of that.
+ *
+ * At most {@code maxBufferedTraces} incomplete traces are held. Spans of further traces are
+ * dropped, and traces whose root has not ended within {@code maxTraceAge} are discarded.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+    private static final long PURGE_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final SpanProcessor delegate;
+    private final long slowThresholdNanos;
+    private final double baselineRatio;
+    private final int maxBufferedTraces;
+    private final long maxTraceAgeNanos;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+
+    private volatile long lastPurge = System.nanoTime();
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, Duration slowThreshold, double baselineRatio,
+                                     int maxBufferedTraces, Duration maxTraceAge) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.baselineRatio = baselineRatio;
+        this.maxBufferedTraces = maxBufferedTraces;
+        this.maxTraceAgeNanos = maxTraceAge.toNanos();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String traceId = span.getSpanContext().getTraceId();
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid() && !parent.isRemote()) {
+            PendingTrace trace = pending.get(traceId);
+            if (trace == null) {
+                if (pending.size() >= maxBufferedTraces) {
+                    return;
+                }
+                trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+            }
+            trace.add(span);
+            return;
+        }
+
+        PendingTrace trace = pending.remove(traceId);
+        List<ReadableSpan> children = trace != null ? trace.spans() : List.of();
+        if (keep(span, children)) {
+            children.forEach(delegate::onEnd);
+            delegate.onEnd(span);
+        }
+        purgeExpired();
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+        return delegate.shutdown();
+    }
+
+    int pendingTraces() {
+        return pending.size();
+    }
+
+    private boolean keep(ReadableSpan root, List<ReadableSpan> children) {
+        if (root.getLatencyNanos() >= slowThresholdNanos || failed(root)) {
+            return true;
+        }
+        for (ReadableSpan child : children) {
+            if (failed(child)) {
+                return true;
+            }
+        }
+        return ThreadLocalRandom.current().nextDouble() < baselineRatio;
+    }
+
+    private static boolean failed(ReadableSpan span) {
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR
+                || "SERVER_ERROR".equals(span.getAttribute(OUTCOME));
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        if (now - lastPurge < PURGE_INTERVAL_NANOS) {
+            return;
+        }
+        lastPurge = now;
+        pending.values().removeIf(trace -> now - trace.createdNanos() > maxTraceAgeNanos);
+    }
+
+    private record PendingTrace(long createdNanos, List<ReadableSpan> spans) {
+
+        private PendingTrace(long createdNanos) {
+            this(createdNanos, new ArrayList<>());
+        }
+
+        private void add(ReadableSpan span) {
+            synchronized (spans) {
+                spans.add(span);
+            }
+        }
+
+        @Override
+        public List<ReadableSpan> spans() {
+            synchronized (spans) {
+                return List.copyOf(spans);
+            }
+        }
+    }
+}
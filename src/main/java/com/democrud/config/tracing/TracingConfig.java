@@ -0,0 +1,37 @@
+package com.democrud.config.tracing;
+
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Exports traces to a local JSON-lines file through tail sampling.
+ *
+ * Spans come from Micrometer observations bridged to OpenTelemetry: HTTP requests,
+ * {@code @Observed} controllers and services, JDBC statements (datasource-micrometer) and
+ * JSON serialization. The exporter is deliberately not a {@code SpanExporter} bean:
+ * Spring Boot would attach such a bean to its own processor and export every span,
+ * bypassing the sampler.
+ */
+@Configuration
+@ConditionalOnProperty(name = "democrud.tracing.exporter", havingValue = "file")
+public class TracingConfig {
+
+    @Bean
+    public SpanProcessor tailSamplingSpanProcessor(
+            @Value("${democrud.tracing.file:${java.io.tmpdir}/demo-crud/traces.jsonl}") Path file,
+            @Value("${democrud.tracing.slow-threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${democrud.tracing.baseline-ratio:0.01}") double baselineRatio,
+            @Value("${democrud.tracing.max-buffered-traces:10000}") int maxBufferedTraces,
+            @Value("${democrud.tracing.max-trace-age:PT1M}") Duration maxTraceAge) {
+        return new TailSamplingSpanProcessor(
+                BatchSpanProcessor.builder(new JsonLinesSpanExporter(file)).build(),
+                slowThreshold, baselineRatio, maxBufferedTraces, maxTraceAge);
+    }
+}
@@ -3,7 +3,9 @@ package com.democrud.domain;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.UUID;
 
@@ -11,7 +13,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Data
 @Entity
-@Table(name = "tb_articles", indexes = @Index(columnList = "publicId", name = "uuid_index"))
+@Table(name = "tb_articles", indexes = @Index(columnList = "publicId", name = "uuid_index", unique = true))
 public class Article {
 
     @Id
@@ -22,6 +24,14 @@ public class Article {
 
     private String title;
 
+    /**
+     * Loaded on first access (the build enhances this class), so reads that only need the
+     * small columns, such as deletes, do not fetch it. Excluded from toString, equals and
+     * hashCode so that logging or comparing an article never triggers that load.
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
 
     private boolean isPublished = false;
@@ -0,0 +1,27 @@
+package com.democrud.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One stripe of the maintained article counts; the counts are the sums over all stripes.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "tb_article_counters")
+public class ArticleCounter {
+
+    @Id
+    private short stripe;
+
+    private long total;
+
+    private long published;
+
+}
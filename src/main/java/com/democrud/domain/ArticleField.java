@@ -0,0 +1,65 @@
+package com.democrud.domain;
+
+import com.democrud.config.exception.ArticleException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Article attributes a client can select with the {@code fields} query parameter.
+ * Each constant pairs the name used in the API with the entity attribute it is read from.
+ */
+public enum ArticleField {
+
+    ID("id", "publicId"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    IS_PUBLISHED("isPublished", "isPublished");
+
+    private final String apiName;
+    private final String attribute;
+
+    ArticleField(String apiName, String attribute) {
+        this.apiName = apiName;
+        this.attribute = attribute;
+    }
+
+    public String apiName() {
+        return apiName;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma-separated field list such as {@code id,title}. A missing or blank list selects every field.
+     *
+     * @throws ArticleException with status 400 when a name is not a known field
+     */
+    public static Set<ArticleField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(ArticleField.class);
+        }
+        Set<ArticleField> selected = EnumSet.noneOf(ArticleField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(fromApiName(trimmed));
+            }
+        }
+        return selected.isEmpty() ? EnumSet.allOf(ArticleField.class) : selected;
+    }
+
+    private static ArticleField fromApiName(String name) {
+        for (ArticleField field : values()) {
+            if (field.apiName.equals(name)) {
+                return field;
+            }
+        }
+        throw ArticleException.invalidData("Unknown field '%s', expected any of: %s".formatted(name,
+                Arrays.stream(values()).map(ArticleField::apiName).collect(Collectors.joining(", "))));
+    }
+}
@@ -0,0 +1,45 @@
+package com.democrud.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Row of the transactional outbox.
+ *
+ * {@code id} is assigned on insert, in insert order. {@code position} stays null until
+ * the sequencer numbers the row after its transaction committed, so positions grow in
+ * the order rows become visible and a consumer reading {@code position > since} never
+ * misses a late-committing event.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "tb_article_outbox", indexes = @Index(columnList = "position", name = "outbox_position_index", unique = true))
+public class ArticleOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long position;
+
+    @Enumerated(EnumType.STRING)
+    private EventType eventType;
+
+    private String publicId;
+
+    private boolean isPublished = false;
+
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    private Instant occurredAt;
+
+    public enum EventType { CREATED, DELETED }
+
+}
@@ -0,0 +1,22 @@
+package com.democrud.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "tb_article_views")
+public class ArticleViewCount {
+
+    @Id
+    private String publicId;
+
+    private long viewCount;
+
+}
@@ -0,0 +1,32 @@
+package com.democrud.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "tb_idempotency_keys", indexes = @Index(columnList = "createdAt", name = "idempotency_created_at_index"))
+public class IdempotencyRecord {
+
+    @Id
+    private String idempotencyKey;
+
+    private String fingerprint;
+
+    private Instant createdAt;
+
+    private String articlePublicId;
+
+    private String title;
+
+    private String description;
+
+    private boolean isPublished = false;
+
+}
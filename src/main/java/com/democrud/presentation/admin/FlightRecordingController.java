@@ -0,0 +1,90 @@
+package com.democrud.presentation.admin;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.services.FlightRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+@Tag(name = "Profiling", description = "On-demand Java Flight Recorder recordings")
+@ConditionalOnProperty(name = "democrud.profiling.enabled", havingValue = "true")
+@RequestMapping("/api/admin/profiling")
+@RestController
+public class FlightRecordingController {
+
+    /**
+     * Added to the recording time for the async request timeout, to cover writing the file.
+     */
+    private static final long RESPONSE_MARGIN_MILLIS = 30_000;
+
+    private final FlightRecordingService flightRecordingService;
+    private final int maxSeconds;
+
+    public FlightRecordingController(FlightRecordingService flightRecordingService,
+                                     @Value("${democrud.profiling.max-duration:PT5M}") Duration maxDuration) {
+        this.flightRecordingService = flightRecordingService;
+        this.maxSeconds = (int) maxDuration.toSeconds();
+    }
+
+    @Operation(
+            summary = "Record a JFR profile",
+            description = "Starts a Java Flight Recorder recording, holds the request open for the given number of "
+                    + "seconds and returns the .jfr file. Only one recording runs at a time."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording completed",
+                    content = @Content(mediaType = "application/octet-stream")),
+            @ApiResponse(responseCode = "400", description = "Invalid recording duration",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "Another recording is running",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping("/recordings")
+    public DeferredResult<ResponseEntity<Resource>> record(
+            @Parameter(description = "Recording length in seconds (1 to the configured maximum)")
+            @RequestParam(defaultValue = "30") int seconds) {
+
+        if (seconds < 1 || seconds > maxSeconds) {
+            throw ArticleException.invalidData("seconds must be between 1 and %d".formatted(maxSeconds));
+        }
+        DeferredResult<ResponseEntity<Resource>> result =
+                new DeferredResult<>(seconds * 1000L + RESPONSE_MARGIN_MILLIS);
+        flightRecordingService.record(Duration.ofSeconds(seconds)).whenComplete((file, error) -> {
+            if (error != null) {
+                result.setErrorResult(error);
+                return;
+            }
+            // The file is streamed after this returns; delete it once the response is complete.
+            result.onCompletion(() -> flightRecordingService.discard(file));
+            boolean accepted = result.setResult(ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(file.getFileName().toString())
+                            .build()
+                            .toString())
+                    .body(new FileSystemResource(file)));
+            if (!accepted) {
+                flightRecordingService.discard(file);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.democrud.presentation.article;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.presentation.article.dto.ArticleChangesResponseDTO;
+import com.democrud.services.ArticleChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@Tag(name = "Article Changes", description = "Incremental change feed for downstream consumers")
+@RequiredArgsConstructor
+@RequestMapping("/api/articles")
+@RestController
+public class ArticleChangeController {
+
+    static final int MAX_LIMIT = 1000;
+    static final int MAX_WAIT_SECONDS = 25;
+
+    private final ArticleChangeFeedService changeFeedService;
+
+    @Operation(
+            summary = "Get article changes",
+            description = "Returns article creations and deletions after the given feed position, oldest first. "
+                    + "With waitSeconds > 0 the request is held open until a change arrives or the wait elapses."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleChangesResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid feed parameters",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/changes")
+    public CompletableFuture<ArticleChangesResponseDTO> findChanges(
+            @Parameter(description = "Last feed position already processed, 0 to start from the oldest retained change")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes to return (1-1000)")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Seconds to wait for new changes when none are available (0-25)")
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+
+        if (since < 0 || limit < 1 || limit > MAX_LIMIT || waitSeconds < 0 || waitSeconds > MAX_WAIT_SECONDS) {
+            throw ArticleException.invalidData("since must be >= 0, limit between 1 and %d and waitSeconds between 0 and %d"
+                    .formatted(MAX_LIMIT, MAX_WAIT_SECONDS));
+        }
+        return changeFeedService.awaitChanges(since, limit, Duration.ofSeconds(waitSeconds));
+    }
+
+}
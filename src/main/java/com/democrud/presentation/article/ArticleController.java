@@ -1,8 +1,12 @@
 package com.democrud.presentation.article;
 
+import com.democrud.domain.ArticleField;
+import com.democrud.presentation.article.dto.ArticleMultiGetRequestDTO;
+import com.democrud.presentation.article.dto.ArticleMultiGetResponseDTO;
 import com.democrud.presentation.article.dto.ArticleRequestDTO;
 import com.democrud.presentation.article.dto.ArticleResponseDTO;
 import com.democrud.services.ArticleService;
+import com.democrud.services.ArticleViewCounter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,37 +14,75 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @Tag(name = "Articles", description = "Article management endpoints")
 @RequiredArgsConstructor
+@Observed(name = "article.controller")
 @RequestMapping("/api/articles")
 @RestController
 public class ArticleController {
 
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String FIELDS_DESCRIPTION =
+            "Comma-separated attributes to return: id, title, description, isPublished. Defaults to all";
+
     private final ArticleService articleService;
+    private final ArticleViewCounter viewCounter;
 
     @Operation(
             summary = "Create a new article",
-            description = "Creates a new article with the provided title and description. Returns the created article with a generated UUID."
+            description = "Creates a new article with the provided title and description. Returns the created article with a generated UUID. "
+                    + "Requests repeated with the same Idempotency-Key return the originally created article instead of creating a new one. "
+                    + "When asynchronous ingestion is enabled, 'Prefer: respond-async' queues the article and returns 202 with its UUID; "
+                    + "requests carrying an Idempotency-Key are always processed synchronously."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Article created successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleResponseDTO.class))),
+            @ApiResponse(responseCode = "202", description = "Article accepted for asynchronous creation",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used with a different payload",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "429", description = "Asynchronous ingestion queue is full",
                     content = @Content(mediaType = "application/json"))
     })
     @PostMapping
-    public ResponseEntity<ArticleResponseDTO> createArticle(@Valid @RequestBody ArticleRequestDTO createArticleRequestDTO) {
+    public ResponseEntity<ArticleResponseDTO> createArticle(
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Parameter(description = "Send 'respond-async' to queue the article instead of writing it inline")
+            @RequestHeader(value = PREFER, required = false) String prefer,
+            @Valid @RequestBody ArticleRequestDTO createArticleRequestDTO) {
+
+        if (idempotencyKey == null && prefersAsync(prefer) && articleService.acceptsAsyncWrites()) {
+            ArticleResponseDTO accepted = articleService.enqueueArticle(
+                    ArticleRequestDTO.toEntity(createArticleRequestDTO)
+            );
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/articles/" + accepted.id()))
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .body(accepted);
+        }
 
         ArticleResponseDTO articleResponseDTO = articleService.createArticle(
-                ArticleRequestDTO.toEntity(createArticleRequestDTO)
+                ArticleRequestDTO.toEntity(createArticleRequestDTO),
+                idempotencyKey
         );
 
         return ResponseEntity
@@ -50,32 +92,73 @@ public class ArticleController {
 
     @Operation(
             summary = "Get all articles",
-            description = "Retrieves a list of all articles in the system."
+            description = "Retrieves a list of all articles in the system. "
+                    + "'fields' selects the returned attributes (e.g. 'id,title'); unselected attributes are not read from the database."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Articles retrieved successfully",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleResponseDTO.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested",
+                    content = @Content(mediaType = "application/json"))
     })
     @GetMapping
-    public ResponseEntity<List<ArticleResponseDTO>> findAllArticles() {
-        return ResponseEntity.ok(articleService.findAllArticles());
+    public ResponseEntity<List<ArticleResponseDTO>> findAllArticles(
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,title")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(articleService.findAllArticles());
+        }
+        return ResponseEntity.ok(articleService.findAllArticles(ArticleField.parse(fields)));
     }
 
     @Operation(
             summary = "Get article by ID",
-            description = "Retrieves a specific article by its UUID identifier."
+            description = "Retrieves a specific article by its UUID identifier. 'fields' selects the returned attributes. "
+                    + "Every retrieval counts as a view; the full representation includes the approximate view count."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Article found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "404", description = "Article not found",
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/{id}")
     public ResponseEntity<ArticleResponseDTO> findArticleById(
             @Parameter(description = "UUID of the article to retrieve", required = true)
-            @PathVariable String id) {
-        return ResponseEntity.ok(articleService.findArticleById(id));
+            @PathVariable String id,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,title")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            ArticleResponseDTO article = articleService.findArticleById(id);
+            if (viewCounter.isEnabled()) {
+                article = article.withViewCount(viewCounter.recordView(id));
+            }
+            return ResponseEntity.ok(article);
+        }
+        ArticleResponseDTO article = articleService.findArticleById(id, ArticleField.parse(fields));
+        if (viewCounter.isEnabled()) {
+            viewCounter.recordView(id);
+        }
+        return ResponseEntity.ok(article);
+    }
+
+    @Operation(
+            summary = "Get several articles by ID",
+            description = "Fetches up to 1000 articles by UUID in one request. Articles are returned in request order, "
+                    + "duplicate ids once, and ids without an article are listed under 'missing'."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Articles resolved",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleMultiGetResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "No ids, blank ids or too many ids",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping("/_mget")
+    public ResponseEntity<ArticleMultiGetResponseDTO> findArticlesByIds(
+            @Valid @RequestBody ArticleMultiGetRequestDTO multiGetRequestDTO) {
+        return ResponseEntity.ok(articleService.findArticlesByIds(multiGetRequestDTO.ids()));
     }
 
     @Operation(
@@ -95,4 +178,16 @@ public class ArticleController {
         return ResponseEntity.noContent().build();
     }
 
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (RESPOND_ASYNC.equalsIgnoreCase(preference.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
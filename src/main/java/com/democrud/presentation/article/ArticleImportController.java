@@ -0,0 +1,58 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleImportResultDTO;
+import com.democrud.services.ArticleImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@Tag(name = "Article Administration", description = "Bulk article maintenance endpoints")
+@RequiredArgsConstructor
+@RequestMapping("/api/articles")
+@RestController
+public class ArticleImportController {
+
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final ArticleImportService articleImportService;
+
+    @Operation(
+            summary = "Bulk import articles",
+            description = "Streams a CSV (header: title,description) or NDJSON upload into the database with PostgreSQL COPY. "
+                    + "Every row gets a generated UUID. Rows failing validation are skipped and reported; "
+                    + "malformed input aborts the whole import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import completed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleImportResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed input, nothing was imported",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "415", description = "Unsupported upload format",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public ResponseEntity<ArticleImportResultDTO> importArticles(
+            @RequestHeader("Content-Type") MediaType contentType,
+            InputStream body) {
+
+        ArticleImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? ArticleImportService.Format.CSV
+                : ArticleImportService.Format.NDJSON;
+
+        return ResponseEntity.ok(articleImportService.importArticles(body, format));
+    }
+
+}
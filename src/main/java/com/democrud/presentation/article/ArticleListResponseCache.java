@@ -0,0 +1,184 @@
+package com.democrud.presentation.article;
+
+import com.democrud.services.ArticleEvent;
+import com.democrud.services.ArticlesImportedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves repeated {@code GET /api/articles} reads from the serialized bytes of the
+ * previous response.
+ *
+ * The first read after a change runs the controller as usual; its JSON body is kept,
+ * together with a gzip copy and an ETag, and replayed until the next local write
+ * commits. A snapshot is only stored if no write committed while it was being built,
+ * so a stale list is never cached. Writes on other nodes are not seen, which is what
+ * the {@code max-age} bound is for.
+ *
+ * Only plain JSON listings are cached; requests with a query string or asking for
+ * another representation go straight to the controller.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "democrud.list-cache.enabled", havingValue = "true")
+public class ArticleListResponseCache extends OncePerRequestFilter {
+
+    private static final String LIST_PATH = "/api/articles";
+    private static final String GZIP = "gzip";
+
+    private final AtomicLong version = new AtomicLong();
+    private final Duration maxAge;
+    private final int maxBytes;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ArticleListResponseCache(MeterRegistry meterRegistry,
+                                    @Value("${democrud.list-cache.max-age:PT5S}") Duration maxAge,
+                                    @Value("${democrud.list-cache.max-bytes:16777216}") int maxBytes) {
+        this(meterRegistry, maxAge, maxBytes, Clock.systemUTC());
+    }
+
+    ArticleListResponseCache(MeterRegistry meterRegistry, Duration maxAge, int maxBytes, Clock clock) {
+        this.maxAge = maxAge;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+        this.hits = Counter.builder("articles.list.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("articles.list.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        invalidate();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !LIST_PATH.equals(request.getRequestURI())
+                || request.getQueryString() != null
+                || !prefersJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long observedVersion = version.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == observedVersion
+                && clock.millis() - current.createdAt() < maxAge.toMillis()) {
+            hits.increment();
+            write(current, request, response);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && body.length <= maxBytes
+                && isJson(wrapper.getContentType())) {
+            Snapshot built = new Snapshot(observedVersion, clock.millis(), body, gzip(body),
+                    "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            wrapper.setHeader(HttpHeaders.ETAG, built.etag());
+            store(built);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void store(Snapshot built) {
+        // A write committed while the list was loaded: the body may predate it.
+        if (version.get() == built.version()) {
+            snapshot = built;
+        }
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    private void write(Snapshot cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cached.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        byte[] body = cached.json();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = cached.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+            return !mediaTypes.isEmpty() && mediaTypes.get(0).isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    private record Snapshot(long version, long createdAt, byte[] json, byte[] gzip, String etag) { }
+}
@@ -0,0 +1,155 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleRequestDTO;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Reads and writes the article DTOs in the Protobuf wire format described by
+ * {@code src/main/proto/article.proto}.
+ *
+ * The messages are encoded straight from the records instead of going through generated
+ * message classes, which saves building an intermediate object per article. Only the
+ * article types are supported; anything else (such as error responses) is left to the
+ * JSON converter, so clients should accept {@code application/json} as a fallback.
+ */
+public class ArticleProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int ARTICLE_ID = 1;
+    private static final int ARTICLE_TITLE = 2;
+    private static final int ARTICLE_DESCRIPTION = 3;
+    private static final int ARTICLE_IS_PUBLISHED = 4;
+    private static final int ARTICLE_VIEW_COUNT = 5;
+    private static final int LIST_ARTICLES = 1;
+    private static final int REQUEST_TITLE = 1;
+    private static final int REQUEST_DESCRIPTION = 2;
+
+    private static final ResolvableType ARTICLE_LIST =
+            ResolvableType.forClassWithGenerics(List.class, ArticleResponseDTO.class);
+
+    public ArticleProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == ArticleResponseDTO.class || clazz == ArticleRequestDTO.class || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return type == ArticleRequestDTO.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (clazz == ArticleResponseDTO.class) {
+            return true;
+        }
+        return type != null && ARTICLE_LIST.isAssignableFrom(ResolvableType.forType(type));
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ArticleRequestDTO.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return readRequest(CodedInputStream.newInstance(inputMessage.getBody()), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (body instanceof ArticleResponseDTO article) {
+            writeArticle(out, article);
+        } else {
+            for (Object element : (List<?>) body) {
+                ArticleResponseDTO article = (ArticleResponseDTO) element;
+                out.writeTag(LIST_ARTICLES, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(articleSize(article));
+                writeArticle(out, article);
+            }
+        }
+        out.flush();
+    }
+
+    static int articleSize(ArticleResponseDTO article) {
+        int size = 0;
+        if (hasText(article.id())) {
+            size += CodedOutputStream.computeStringSize(ARTICLE_ID, article.id());
+        }
+        if (hasText(article.title())) {
+            size += CodedOutputStream.computeStringSize(ARTICLE_TITLE, article.title());
+        }
+        if (hasText(article.description())) {
+            size += CodedOutputStream.computeStringSize(ARTICLE_DESCRIPTION, article.description());
+        }
+        if (Boolean.TRUE.equals(article.isPublished())) {
+            size += CodedOutputStream.computeBoolSize(ARTICLE_IS_PUBLISHED, true);
+        }
+        if (article.viewCount() != null && article.viewCount() != 0) {
+            size += CodedOutputStream.computeInt64Size(ARTICLE_VIEW_COUNT, article.viewCount());
+        }
+        return size;
+    }
+
+    static void writeArticle(CodedOutputStream out, ArticleResponseDTO article) throws IOException {
+        if (hasText(article.id())) {
+            out.writeString(ARTICLE_ID, article.id());
+        }
+        if (hasText(article.title())) {
+            out.writeString(ARTICLE_TITLE, article.title());
+        }
+        if (hasText(article.description())) {
+            out.writeString(ARTICLE_DESCRIPTION, article.description());
+        }
+        if (Boolean.TRUE.equals(article.isPublished())) {
+            out.writeBool(ARTICLE_IS_PUBLISHED, true);
+        }
+        if (article.viewCount() != null && article.viewCount() != 0) {
+            out.writeInt64(ARTICLE_VIEW_COUNT, article.viewCount());
+        }
+    }
+
+    private static ArticleRequestDTO readRequest(CodedInputStream in, HttpInputMessage inputMessage) throws IOException {
+        String title = null;
+        String description = null;
+        try {
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case REQUEST_TITLE -> title = in.readStringRequireUtf8();
+                    case REQUEST_DESCRIPTION -> description = in.readStringRequireUtf8();
+                    default -> in.skipField(tag);
+                }
+            }
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException("Malformed protobuf ArticleRequest: " + ex.getMessage(), ex, inputMessage);
+        }
+        return new ArticleRequestDTO(title, description);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleStatsDTO;
+import com.democrud.services.ArticleStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Articles", description = "Article management endpoints")
+@RequiredArgsConstructor
+@RequestMapping("/api/articles")
+@RestController
+public class ArticleStatsController {
+
+    private final ArticleStatsService statsService;
+
+    @Operation(
+            summary = "Get article statistics",
+            description = "Returns the total, published and unpublished article counts. The counts are maintained "
+                    + "with every change, so this does not scan the articles."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArticleStatsDTO.class)))
+    })
+    @GetMapping("/stats")
+    public ArticleStatsDTO findStats() {
+        return statsService.stats();
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.democrud.presentation.article;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.services.ArticleEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed article changes to Server-Sent Events subscribers.
+ *
+ * Each event is serialized once and offered to every subscriber's bounded buffer;
+ * the publishing thread never writes to a socket. A subscriber's buffer is drained
+ * by a virtual thread that is only scheduled while the buffer has items, so idle
+ * subscribers cost no thread at all. A subscriber whose buffer is full is too slow
+ * to keep up and is disconnected instead of holding events in memory.
+ */
+@Slf4j
+@Component
+public class ArticleStreamBroadcaster implements DisposableBean {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Counter evicted;
+
+    @Autowired
+    public ArticleStreamBroadcaster(ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${democrud.stream.buffer-size:256}") int bufferSize,
+                                    @Value("${democrud.stream.max-subscribers:10000}") int maxSubscribers,
+                                    @Value("${democrud.stream.timeout:PT30M}") Duration timeout) {
+        this(objectMapper, meterRegistry, bufferSize, maxSubscribers, timeout, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    ArticleStreamBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry, int bufferSize,
+                             int maxSubscribers, Duration timeout, ExecutorService senders) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.senders = senders;
+        Gauge.builder("articles.stream.subscribers", subscribers, Set::size)
+                .description("Connected article stream subscribers")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("articles.stream.evicted")
+                .description("Subscribers disconnected because they could not keep up")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw ArticleException.tooManySubscribers();
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), new ArrayBlockingQueue<>(bufferSize));
+        SseEmitter emitter = subscriber.emitter();
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleEvent(ArticleEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event.article() != null
+                    ? event.article()
+                    : Map.of("id", event.publicId()));
+        } catch (JsonProcessingException ex) {
+            log.error("Could not serialize stream event for article {}", event.publicId(), ex);
+            return;
+        }
+        broadcast(SseEmitter.event()
+                .name(event.type().name().toLowerCase())
+                .data(payload, MediaType.APPLICATION_JSON)
+                .build());
+    }
+
+    /**
+     * Keeps idle connections alive through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${democrud.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(SseEmitter.event().comment("heartbeat").build());
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Takes an already built event: builders are mutable and must not be shared across subscribers.
+     */
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer().offer(event)) {
+                schedule(subscriber);
+            } else {
+                evict(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while ((event = subscriber.buffer().poll()) != null) {
+                subscriber.emitter().send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(ex);
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+        if (!subscriber.buffer().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evicted.increment();
+            subscriber.buffer().clear();
+            subscriber.emitter().complete();
+            log.debug("Evicted slow article stream subscriber");
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter,
+                              BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer,
+                              AtomicBoolean draining) {
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer) {
+            this(emitter, buffer, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.democrud.presentation.article;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Article Changes", description = "Incremental change feed for downstream consumers")
+@RequiredArgsConstructor
+@RequestMapping("/api/articles")
+@RestController
+public class ArticleStreamController {
+
+    private final ArticleStreamBroadcaster broadcaster;
+
+    @Operation(
+            summary = "Stream article changes",
+            description = "Server-Sent Events stream of articles as they are created ('created' events carrying the article) "
+                    + "or deleted ('deleted' events carrying its id). Delivery is best effort: clients that fall behind are "
+                    + "disconnected and should reconnect, using GET /api/articles/changes when they must not miss changes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "429", description = "Too many open streams",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamArticles() {
+        return broadcaster.subscribe();
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.democrud.presentation.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Single entry of the article change feed")
+public record ArticleChangeDTO(
+        @Schema(description = "Position of the change in the feed; pass the last seen value as 'since'", example = "1042")
+        long sequence,
+
+        @Schema(description = "Kind of change", example = "CREATED", allowableValues = {"CREATED", "DELETED"})
+        String type,
+
+        @Schema(description = "Unique identifier of the changed article", example = "550e8400-e29b-41d4-a716-446655440000")
+        String articleId,
+
+        @Schema(description = "Publication status of the article when it changed", example = "false")
+        boolean isPublished,
+
+        @Schema(description = "Article state after the change, absent for deletions", nullable = true)
+        ArticleResponseDTO article,
+
+        @Schema(description = "Time the change was made")
+        Instant occurredAt
+) { }
@@ -0,0 +1,20 @@
+package com.democrud.presentation.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch of article changes after a given feed position")
+public record ArticleChangesResponseDTO(
+        @Schema(description = "Changes in feed order")
+        List<ArticleChangeDTO> changes,
+
+        @Schema(description = "Value to pass as 'since' on the next request", example = "1042")
+        long nextSince
+) {
+
+    public static ArticleChangesResponseDTO empty(long since) {
+        return new ArticleChangesResponseDTO(List.of(), since);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.democrud.presentation.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk article import")
+public record ArticleImportResultDTO(
+        @Schema(description = "Number of articles written to the database", example = "250000")
+        long rowsImported,
+
+        @Schema(description = "Number of input rows skipped because they failed validation", example = "3")
+        long rowsRejected,
+
+        @Schema(description = "Wall-clock duration of the import in milliseconds", example = "4210")
+        long elapsedMillis,
+
+        @Schema(description = "Import throughput in rows per second", example = "59382.4")
+        double rowsPerSecond,
+
+        @Schema(description = "First rejected rows with the reason they were skipped")
+        List<RowError> errors
+) {
+
+    @Schema(description = "Validation failure for a single input row")
+    public record RowError(
+            @Schema(description = "1-based position of the row in the input", example = "42")
+            long row,
+
+            @Schema(description = "Validation messages for the row", example = "Title is required and cannot be blank")
+            String message
+    ) { }
+
+}
@@ -0,0 +1,18 @@
+package com.democrud.presentation.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request DTO for fetching several articles at once")
+public record ArticleMultiGetRequestDTO(
+        @Schema(description = "UUIDs of the articles to fetch, in the order they should be returned",
+                example = "[\"550e8400-e29b-41d4-a716-446655440000\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "At least one id is required")
+        @Size(max = 1000, message = "At most 1000 ids can be fetched at once")
+        List<@NotBlank(message = "Ids cannot be blank") String> ids
+) {
+}
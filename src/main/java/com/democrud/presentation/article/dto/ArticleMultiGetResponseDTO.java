@@ -0,0 +1,15 @@
+package com.democrud.presentation.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Articles found by a multi-get, in request order")
+public record ArticleMultiGetResponseDTO(
+        @Schema(description = "Articles that exist, in the order their ids were requested; duplicate ids are returned once")
+        List<ArticleResponseDTO> articles,
+
+        @Schema(description = "Requested ids that do not match any article")
+        List<String> missing
+) {
+}
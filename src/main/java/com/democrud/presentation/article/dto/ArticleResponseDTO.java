@@ -1,8 +1,14 @@
 package com.democrud.presentation.article.dto;
 
+import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
-@Schema(description = "Response DTO for article data")
+import java.util.Set;
+
+@Schema(description = "Response DTO for article data. Fields not selected with the 'fields' parameter are omitted.")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ArticleResponseDTO(
         @Schema(description = "Unique identifier of the article", example = "550e8400-e29b-41d4-a716-446655440000")
         String id,
@@ -14,5 +20,40 @@ public record ArticleResponseDTO(
         String description,
         
         @Schema(description = "Publication status of the article", example = "false")
-        boolean isPublished
-) { }
+        Boolean isPublished,
+
+        @Schema(description = "Approximate number of times the article was retrieved by ID; only returned by that endpoint",
+                example = "42")
+        Long viewCount
+) {
+
+    public ArticleResponseDTO(String id, String title, String description, Boolean isPublished) {
+        this(id, title, description, isPublished, null);
+    }
+
+    public ArticleResponseDTO withViewCount(long viewCount) {
+        return new ArticleResponseDTO(id, title, description, isPublished, viewCount);
+    }
+
+    public static ArticleResponseDTO fromEntity(Article article) {
+        return new ArticleResponseDTO(
+                article.getPublicId(),
+                article.getTitle(),
+                article.getDescription(),
+                article.isPublished()
+        );
+    }
+
+    /**
+     * Maps only the selected fields; the others stay null and are left out of the response.
+     */
+    public static ArticleResponseDTO fromEntity(Article article, Set<ArticleField> fields) {
+        return new ArticleResponseDTO(
+                fields.contains(ArticleField.ID) ? article.getPublicId() : null,
+                fields.contains(ArticleField.TITLE) ? article.getTitle() : null,
+                fields.contains(ArticleField.DESCRIPTION) ? article.getDescription() : null,
+                fields.contains(ArticleField.IS_PUBLISHED) ? article.isPublished() : null
+        );
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.democrud.presentation.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Article counts, maintained on every change instead of counted on request")
+public record ArticleStatsDTO(
+        @Schema(description = "All articles", example = "1200")
+        long total,
+
+        @Schema(description = "Published articles", example = "800")
+        long published,
+
+        @Schema(description = "Articles not yet published", example = "400")
+        long unpublished
+) {
+
+    public static ArticleStatsDTO of(long total, long published) {
+        return new ArticleStatsDTO(total, published, total - published);
+    }
+}
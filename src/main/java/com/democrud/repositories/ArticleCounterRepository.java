@@ -0,0 +1,47 @@
+package com.democrud.repositories;
+
+import com.democrud.domain.ArticleCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ArticleCounterRepository extends JpaRepository<ArticleCounter, Short> {
+
+    /**
+     * Adds to one stripe, creating it on first use, so the number of stripes can change without a migration.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_article_counters AS c (stripe, total, published)
+            VALUES (:stripe, :total, :published)
+            ON CONFLICT (stripe) DO UPDATE
+               SET total = c.total + EXCLUDED.total,
+                   published = c.published + EXCLUDED.published
+            """, nativeQuery = true)
+    int add(short stripe, long total, long published);
+
+    @Query(value = "SELECT coalesce(sum(total), 0) AS total, coalesce(sum(published), 0) AS published "
+            + "FROM tb_article_counters", nativeQuery = true)
+    Counts sumCounters();
+
+    /**
+     * Full scan of tb_articles, only meant for reconciliation.
+     */
+    @Query(value = "SELECT count(*) AS total, count(*) FILTER (WHERE is_published) AS published "
+            + "FROM tb_articles", nativeQuery = true)
+    Counts countArticles();
+
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(long key);
+
+    interface Counts {
+
+        long getTotal();
+
+        long getPublished();
+    }
+}
@@ -0,0 +1,55 @@
+package com.democrud.repositories;
+
+import com.democrud.domain.ArticleOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ArticleOutboxRepository extends JpaRepository<ArticleOutboxEvent, Long> {
+
+    List<ArticleOutboxEvent> findByPositionGreaterThanOrderByPositionAsc(long position, Limit limit);
+
+    @Query("select coalesce(max(e.position), 0) from ArticleOutboxEvent e")
+    long findMaxPosition();
+
+    /**
+     * PublicIds of articles created at feed positions {@code after < position <= upTo}.
+     * Positions are dense, so callers page through the feed by position range.
+     */
+    @Query("select e.publicId from ArticleOutboxEvent e where e.position > :after and e.position <= :upTo "
+            + "and e.eventType = com.democrud.domain.ArticleOutboxEvent.EventType.CREATED")
+    List<String> findCreatedPublicIds(long after, long upTo);
+
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(long key);
+
+    /**
+     * Numbers the oldest unsequenced rows in id order, continuing after the highest
+     * assigned position. Callers must hold the sequencer advisory lock.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE tb_article_outbox o
+               SET position = p.base + p.rn
+              FROM (SELECT id,
+                           row_number() OVER (ORDER BY id) AS rn,
+                           (SELECT coalesce(max(position), 0) FROM tb_article_outbox) AS base
+                      FROM tb_article_outbox
+                     WHERE position IS NULL
+                     ORDER BY id
+                     LIMIT :batchSize) p
+             WHERE o.id = p.id
+            """, nativeQuery = true)
+    int assignPositions(int batchSize);
+
+    @Modifying
+    @Query("delete from ArticleOutboxEvent e where e.occurredAt < :cutoff and e.position is not null")
+    int deleteSequencedBefore(Instant cutoff);
+
+}
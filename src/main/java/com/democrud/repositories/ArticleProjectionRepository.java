@@ -0,0 +1,21 @@
+package com.democrud.repositories;
+
+import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads articles selecting only the requested columns.
+ *
+ * The returned articles are detached and only carry the selected fields;
+ * everything else is left at its default value and must not be persisted.
+ */
+public interface ArticleProjectionRepository {
+
+    List<Article> findAllProjected(Set<ArticleField> fields);
+
+    Optional<Article> findProjectedByPublicId(String publicId, Set<ArticleField> fields);
+}
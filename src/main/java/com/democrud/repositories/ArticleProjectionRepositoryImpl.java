@@ -0,0 +1,74 @@
+package com.democrud.repositories;
+
+import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads results as lists rather than streams: a result stream keeps its ResultSet and
+ * statement open until it is closed or the session ends.
+ */
+@Transactional(readOnly = true)
+class ArticleProjectionRepositoryImpl implements ArticleProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Article> findAllProjected(Set<ArticleField> fields) {
+        return entityManager.createQuery(projection(fields, null))
+                .getResultList()
+                .stream()
+                .map(tuple -> toArticle(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public Optional<Article> findProjectedByPublicId(String publicId, Set<ArticleField> fields) {
+        return entityManager.createQuery(projection(fields, publicId))
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(tuple -> toArticle(tuple, fields));
+    }
+
+    private CriteriaQuery<Tuple> projection(Set<ArticleField> fields, String publicId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Article> article = query.from(Article.class);
+        List<Selection<?>> columns = fields.stream()
+                .<Selection<?>>map(field -> article.get(field.attribute()).alias(field.name()))
+                .toList();
+        query.multiselect(columns);
+        if (publicId != null) {
+            query.where(builder.equal(article.get("publicId"), publicId));
+        }
+        return query;
+    }
+
+    private static Article toArticle(Tuple tuple, Set<ArticleField> fields) {
+        Article article = new Article();
+        for (ArticleField field : fields) {
+            Object value = tuple.get(field.name());
+            switch (field) {
+                case ID -> article.setPublicId((String) value);
+                case TITLE -> article.setTitle((String) value);
+                case DESCRIPTION -> article.setDescription((String) value);
+                case IS_PUBLISHED -> article.setPublished((Boolean) value);
+            }
+        }
+        return article;
+    }
+}
@@ -1,15 +1,53 @@
 package com.democrud.repositories;
 
 import com.democrud.domain.Article;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Spring Data only makes the inherited CRUD methods transactional. Declared read methods
+ * carry their own read-only transaction, so they route to a replica and close their
+ * statements when called outside a web request.
+ */
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleProjectionRepository {
 
+    /**
+     * Loads the article without its lazy description, for callers that only need the small columns.
+     */
+    @Transactional(readOnly = true)
     Optional<Article> findByPublicId(String publicId);
 
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = "description")
+    Optional<Article> findWithDescriptionByPublicId(String publicId);
+
+    @Override
+    @EntityGraph(attributePaths = "description")
+    List<Article> findAll();
+
+    /**
+     * Binds all ids as a single array parameter, so every batch size shares one prepared statement
+     * instead of each IN-list length getting its own.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT * FROM tb_articles WHERE public_id = ANY(CAST(:publicIds AS varchar[]))", nativeQuery = true)
+    List<Article> findAllByPublicIds(@Param("publicIds") String[] publicIds);
+
+    /**
+     * Deletes by the partition key so PostgreSQL only touches the one partition holding the row;
+     * deleting by id would have to probe every partition.
+     */
+    @Modifying
+    @Query("DELETE FROM Article a WHERE a.publicId = :publicId")
+    int deleteByPublicId(@Param("publicId") String publicId);
 
 }
@@ -0,0 +1,33 @@
+package com.democrud.repositories;
+
+import com.democrud.domain.ArticleViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ArticleViewCountRepository extends JpaRepository<ArticleViewCount, String> {
+
+    /**
+     * Adds a batch of view counts in one statement and returns the new totals.
+     *
+     * Rows are locked in publicId order, so instances flushing overlapping batches cannot
+     * deadlock. Views of articles deleted in the meantime are dropped by the join.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO tb_article_views AS v (public_id, view_count)
+            SELECT u.public_id, u.view_count
+              FROM unnest(CAST(:publicIds AS varchar[]), CAST(:viewCounts AS bigint[])) AS u (public_id, view_count)
+              JOIN tb_articles a ON a.public_id = u.public_id
+             ORDER BY u.public_id
+            ON CONFLICT (public_id) DO UPDATE
+               SET view_count = v.view_count + EXCLUDED.view_count
+            RETURNING v.public_id, v.view_count
+            """, nativeQuery = true)
+    List<ArticleViewCount> addAll(String[] publicIds, long[] viewCounts);
+
+}
@@ -0,0 +1,220 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the most requested articles and pre-loads them into the read cache on startup.
+ *
+ * Every read is counted in a Count-Min sketch. Articles already in the top N, which
+ * receive most of the reads, only raise their own count with an atomic max and take no
+ * lock. An article outside the top set is admitted once its estimate beats the least
+ * popular member: only then is the min-heap of members locked. Heap nodes carry the
+ * count they were pushed with, a lower bound of the member's current count, and the
+ * minimum is restored lazily by re-pushing stale nodes when the head is needed. Counts
+ * are halved every {@code decay-interval} so the ranking follows current traffic.
+ *
+ * The top articles are written to {@code path} on shutdown. On the next start they are
+ * loaded with one multi-get query and put into the read cache before the application
+ * reports itself ready, and their counts seed the new sketch.
+ */
+@Slf4j
+@Component
+public class ArticleAccessTracker implements ApplicationRunner, DisposableBean {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 16;
+    private static final int PRELOAD_BATCH = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleReadCache readCache;
+    private final boolean enabled;
+    private final int topN;
+    private final Path path;
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    private final Map<String, AtomicLong> top = new ConcurrentHashMap<>();
+    private final PriorityQueue<HeapNode> heap = new PriorityQueue<>(Comparator.comparingLong(HeapNode::count));
+
+    /**
+     * Smallest count in a full top set; zero until the set is full.
+     */
+    private volatile long admissionThreshold;
+
+    public ArticleAccessTracker(ArticleRepository articleRepository,
+                                ArticleReadCache readCache,
+                                @Value("${democrud.prewarm.enabled:false}") boolean enabled,
+                                @Value("${democrud.prewarm.top-n:1000}") int topN,
+                                @Value("${democrud.prewarm.path:${java.io.tmpdir}/demo-crud/hot-articles.tsv}") Path path) {
+        this.articleRepository = articleRepository;
+        this.readCache = readCache;
+        this.enabled = enabled;
+        this.topN = topN;
+        this.path = path;
+    }
+
+    public void record(String publicId) {
+        if (enabled) {
+            record(publicId, 1);
+        }
+    }
+
+    /**
+     * The top articles, most requested first.
+     */
+    public List<Map.Entry<String, Long>> topArticles() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(top.size());
+        top.forEach((publicId, count) -> entries.add(Map.entry(publicId, count.get())));
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return entries;
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.prewarm.decay-interval:PT10M}")
+    public void decay() {
+        if (!enabled) {
+            return;
+        }
+        sketch.decay();
+        synchronized (heap) {
+            heap.clear();
+            top.forEach((publicId, count) -> heap.add(new HeapNode(publicId, count.updateAndGet(c -> c >>> 1))));
+            updateAdmissionThreshold();
+        }
+    }
+
+    /**
+     * Runs before the application is marked ready, so a load balancer probing readiness
+     * only sends traffic once the hot articles are cached.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            List<String> ids = new ArrayList<>();
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0 && ids.size() < topN) {
+                    String publicId = line.substring(tab + 1);
+                    record(publicId, Long.parseLong(line.substring(0, tab)));
+                    ids.add(publicId);
+                }
+            }
+            int loaded = 0;
+            for (int from = 0; from < ids.size(); from += PRELOAD_BATCH) {
+                List<String> batch = ids.subList(from, Math.min(from + PRELOAD_BATCH, ids.size()));
+                long stamp = readCache.stamp();
+                for (var article : articleRepository.findAllByPublicIds(batch.toArray(String[]::new))) {
+                    readCache.put(stamp, ArticleResponseDTO.fromEntity(article));
+                    loaded++;
+                }
+            }
+            log.info("Pre-warmed {} of {} hot articles in {} ms", loaded, ids.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not pre-warm hot articles from {}", path, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            write();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not write hot articles to {}", path, ex);
+        }
+    }
+
+    void write() throws IOException {
+        List<Map.Entry<String, Long>> entries = topArticles();
+        if (entries.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : entries) {
+                writer.write(entry.getValue() + "\t" + entry.getKey());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void record(String publicId, long count) {
+        long estimate = sketch.add(publicId, count);
+        AtomicLong member = top.get(publicId);
+        if (member != null) {
+            member.accumulateAndGet(estimate, Math::max);
+            return;
+        }
+        if (estimate <= admissionThreshold) {
+            return;
+        }
+        synchronized (heap) {
+            member = top.get(publicId);
+            if (member != null) {
+                member.accumulateAndGet(estimate, Math::max);
+                return;
+            }
+            if (top.size() >= topN) {
+                HeapNode least = leastMember();
+                if (estimate <= least.count()) {
+                    return;
+                }
+                heap.poll();
+                top.remove(least.publicId());
+            }
+            top.put(publicId, new AtomicLong(estimate));
+            heap.add(new HeapNode(publicId, estimate));
+            updateAdmissionThreshold();
+        }
+    }
+
+    /**
+     * Re-pushes head nodes whose member has been counted up since, until the head is current.
+     * Caller holds the heap lock and the heap is not empty.
+     */
+    private HeapNode leastMember() {
+        while (true) {
+            HeapNode head = heap.peek();
+            long current = top.get(head.publicId()).get();
+            if (current == head.count()) {
+                return head;
+            }
+            heap.poll();
+            heap.add(new HeapNode(head.publicId(), current));
+        }
+    }
+
+    private void updateAdmissionThreshold() {
+        admissionThreshold = top.size() >= topN ? leastMember().count() : 0;
+    }
+
+    private record HeapNode(String publicId, long count) { }
+}
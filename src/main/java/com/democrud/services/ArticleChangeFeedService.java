@@ -0,0 +1,144 @@
+package com.democrud.services;
+
+import com.democrud.domain.ArticleOutboxEvent;
+import com.democrud.presentation.article.dto.ArticleChangeDTO;
+import com.democrud.presentation.article.dto.ArticleChangesResponseDTO;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the incremental article change feed from the outbox table.
+ *
+ * Outbox rows only get a feed position once the sequencer has seen them committed.
+ * The sequencer runs on every node but only one node holds the advisory lock per
+ * tick. Every tick also wakes long-polling consumers whose position is behind the
+ * feed head, so consumers on any node see changes sequenced by any other node.
+ */
+@Slf4j
+@Service
+public class ArticleChangeFeedService {
+
+    private static final long SEQUENCER_LOCK_KEY = 0x41525449434C45L;
+
+    private final ArticleOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int sequencerBatchSize;
+    private final Duration retention;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public ArticleChangeFeedService(ArticleOutboxRepository outboxRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${democrud.outbox.sequencer-batch-size:1000}") int sequencerBatchSize,
+                                    @Value("${democrud.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sequencerBatchSize = sequencerBatchSize;
+        this.retention = retention;
+    }
+
+    public ArticleChangesResponseDTO findChanges(long since, int limit) {
+        List<ArticleChangeDTO> changes = outboxRepository
+                .findByPositionGreaterThanOrderByPositionAsc(since, Limit.of(limit))
+                .stream()
+                .map(this::toChange)
+                .toList();
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).sequence();
+        return new ArticleChangesResponseDTO(changes, nextSince);
+    }
+
+    /**
+     * Returns changes after {@code since} as soon as there are any, or an empty batch
+     * once {@code timeout} elapses.
+     */
+    public CompletableFuture<ArticleChangesResponseDTO> awaitChanges(long since, int limit, Duration timeout) {
+        ArticleChangesResponseDTO available = findChanges(since, limit);
+        if (!available.changes().isEmpty() || timeout.isZero()) {
+            return CompletableFuture.completedFuture(available);
+        }
+        Waiter waiter = new Waiter(since, limit, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.result()
+                .completeOnTimeout(ArticleChangesResponseDTO.empty(since), timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> waiters.remove(waiter));
+        return waiter.result();
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.outbox.sequencer-interval:PT0.2S}")
+    public void sequenceAndNotify() {
+        Integer assigned = transactionTemplate.execute(status ->
+                outboxRepository.tryAdvisoryTransactionLock(SEQUENCER_LOCK_KEY)
+                        ? outboxRepository.assignPositions(sequencerBatchSize)
+                        : 0);
+        if (assigned != null && assigned > 0) {
+            log.debug("Sequenced {} outbox events", assigned);
+        }
+        if (!waiters.isEmpty()) {
+            notifyWaiters(outboxRepository.findMaxPosition());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.outbox.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deleteSequencedBefore(Instant.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} outbox events older than {}", purged, retention);
+        }
+    }
+
+    private void notifyWaiters(long head) {
+        for (Waiter waiter : waiters) {
+            if (waiter.since() < head && !waiter.result().isDone()) {
+                try {
+                    waiter.result().complete(findChanges(waiter.since(), waiter.limit()));
+                } catch (RuntimeException ex) {
+                    waiter.result().completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    private ArticleChangeDTO toChange(ArticleOutboxEvent event) {
+        return new ArticleChangeDTO(
+                event.getPosition(),
+                event.getEventType().name(),
+                event.getPublicId(),
+                event.isPublished(),
+                readPayload(event),
+                event.getOccurredAt()
+        );
+    }
+
+    private ArticleResponseDTO readPayload(ArticleOutboxEvent event) {
+        if (event.getPayload() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(event.getPayload(), ArticleResponseDTO.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt outbox payload for event " + event.getId(), ex);
+        }
+    }
+
+    private record Waiter(long since, int limit, CompletableFuture<ArticleChangesResponseDTO> result) { }
+}
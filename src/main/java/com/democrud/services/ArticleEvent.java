@@ -0,0 +1,28 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+
+import java.time.Instant;
+
+/**
+ * Application event published inside the transaction that changes an article.
+ *
+ * Synchronous listeners take part in that transaction (the outbox relies on this);
+ * listeners that only care about committed state should use
+ * {@code @TransactionalEventListener}.
+ *
+ * @param article the article state after the change, {@code null} for deletions
+ */
+public record ArticleEvent(Type type, String publicId, boolean published, ArticleResponseDTO article, Instant occurredAt) {
+
+    public enum Type { CREATED, DELETED }
+
+    public static ArticleEvent created(ArticleResponseDTO article) {
+        return new ArticleEvent(Type.CREATED, article.id(), article.isPublished(), article, Instant.now());
+    }
+
+    public static ArticleEvent deleted(String publicId, boolean published) {
+        return new ArticleEvent(Type.DELETED, publicId, published, null, Instant.now());
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.democrud.services;
+
+import com.democrud.repositories.ArticleOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bloom filter of every known article publicId, used to answer reads and deletes for
+ * ids that never existed without querying PostgreSQL.
+ *
+ * The filter is built by streaming the publicIds of tb_articles and rebuilt every
+ * {@code rebuild-interval}, which sheds deleted ids and resizes it to the table.
+ * Until the first build completes, and while rebuilding after a bulk import, nothing
+ * is rejected; a rebuild that overlapped an import is discarded and run again. Articles created on this node are added as soon as they commit;
+ * articles created on other nodes are picked up from the outbox feed every
+ * {@code sync-interval}, so for that long another node's new article can be
+ * reported as missing here.
+ *
+ * A negative answer is definite; a positive one still needs the database.
+ */
+@Slf4j
+@Component
+public class ArticleIdFilter {
+
+    private static final int SYNC_PAGE_SIZE = 10_000;
+    private static final int STREAM_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleOutboxRepository outboxRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter rejected;
+    private final Counter passed;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+    private final AtomicLong lastCount = new AtomicLong();
+    // Bumped by every bulk import; a rebuild that started before it must not be published.
+    private final Object publishLock = new Object();
+    private long generation;
+    private long publishedGeneration;
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private long outboxPosition;
+
+    public ArticleIdFilter(JdbcTemplate jdbcTemplate,
+                           ArticleOutboxRepository outboxRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${democrud.id-filter.enabled:false}") boolean enabled,
+                           @Value("${democrud.id-filter.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${democrud.id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxRepository = outboxRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rejected = Counter.builder("articles.id.filter").tag("result", "absent").register(meterRegistry);
+        this.passed = Counter.builder("articles.id.filter").tag("result", "maybe-present").register(meterRegistry);
+    }
+
+    /**
+     * True only if no article with this publicId exists (or existed at the last rebuild).
+     */
+    public boolean definitelyAbsent(String publicId) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return false;
+        }
+        if (filter.mightContain(publicId)) {
+            passed.increment();
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() == ArticleEvent.Type.CREATED) {
+            add(event.publicId());
+        }
+    }
+
+    /**
+     * Imported ids are not announced one by one, so stop rejecting until a rebuild has seen them.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        if (enabled) {
+            synchronized (publishLock) {
+                generation++;
+                current = null;
+            }
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Starts a rebuild off the scheduler thread, which also runs the outbox sequencer.
+     */
+    @Scheduled(fixedDelayString = "${democrud.id-filter.rebuild-interval:PT1H}")
+    public void requestRebuild() {
+        if (enabled && rebuildRunning.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("article-id-filter-rebuild").start(() -> {
+                boolean rebuilt = false;
+                try {
+                    while (!rebuilt) {
+                        rebuilt = rebuild();
+                    }
+                } catch (RuntimeException ex) {
+                    log.warn("Rebuilding the article id filter failed", ex);
+                } finally {
+                    rebuildRunning.set(false);
+                }
+                // An import committing after the last check found this rebuild still running.
+                if (rebuilt && isStale()) {
+                    requestRebuild();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.id-filter.sync-interval:PT1S}")
+    public void syncFromOutbox() {
+        if (current == null || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long head = outboxRepository.findMaxPosition();
+            while (outboxPosition < head) {
+                long upTo = Math.min(head, outboxPosition + SYNC_PAGE_SIZE);
+                outboxRepository.findCreatedPublicIds(outboxPosition, upTo).forEach(this::add);
+                outboxPosition = upTo;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Builds a new filter and publishes it, unless a bulk import committed meanwhile: the
+     * imported ids may have been missed, so the caller has to rebuild again.
+     */
+    boolean rebuild() {
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            long startGeneration;
+            synchronized (publishLock) {
+                startGeneration = generation;
+            }
+            BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, lastCount.get() * 2), falsePositiveRate);
+            building = next;
+            long[] position = new long[1];
+            long[] count = new long[1];
+            readOnlyTransaction.executeWithoutResult(status -> {
+                position[0] = outboxRepository.findMaxPosition();
+                count[0] = streamPublicIds(next);
+            });
+            synchronized (publishLock) {
+                if (generation != startGeneration) {
+                    log.info("Discarding article id filter built during a bulk import");
+                    return false;
+                }
+                current = next;
+                publishedGeneration = startGeneration;
+            }
+            outboxPosition = position[0];
+            lastCount.set(count[0]);
+            log.info("Built article id filter over {} ids ({} KB, {} hashes) in {} ms", count[0],
+                    next.sizeInBytes() / 1024, next.hashCount(), (System.nanoTime() - started) / 1_000_000);
+            return true;
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isStale() {
+        synchronized (publishLock) {
+            return generation != publishedGeneration;
+        }
+    }
+
+    private long streamPublicIds(BloomFilter target) {
+        long[] count = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT public_id FROM tb_articles");
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            target.put(resultSet.getString(1));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private void add(String publicId) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(publicId);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(publicId);
+        }
+    }
+}
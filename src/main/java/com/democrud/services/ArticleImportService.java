@@ -0,0 +1,229 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.presentation.article.dto.ArticleImportResultDTO;
+import com.democrud.presentation.article.dto.ArticleRequestDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Streams CSV or NDJSON article uploads into tb_articles through PostgreSQL COPY.
+ *
+ * Rows are parsed one at a time, validated against the ArticleRequestDTO constraints
+ * and encoded straight into the COPY stream, so memory use does not depend on the
+ * upload size. Ids come from the same sequence Hibernate uses; every row takes its
+ * own sequence value, which cannot collide with the pooled blocks Hibernate derives
+ * from the values it fetches itself. Because the connection is busy while a COPY is
+ * open, ids are reserved in chunks and one COPY is issued per chunk.
+ *
+ * Rows failing validation are skipped and reported; malformed input aborts the
+ * import and rolls back everything written so far.
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private static final String COPY_SQL =
+            "COPY tb_articles (id, public_id, title, description, is_published) FROM STDIN (FORMAT csv)";
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final DataSource dataSource;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final String idSequence;
+    private final int chunkSize;
+
+    public ArticleImportService(DataSource dataSource,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${democrud.import.id-sequence:tb_articles_seq}") String idSequence,
+                                @Value("${democrud.import.chunk-size:10000}") int chunkSize) {
+        this.dataSource = dataSource;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.ndjsonReader = objectMapper.readerFor(ArticleRequestDTO.class);
+        this.csvReader = new CsvMapper()
+                .readerFor(ArticleRequestDTO.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.idSequence = idSequence;
+        this.chunkSize = chunkSize;
+    }
+
+    public enum Format { CSV, NDJSON }
+
+    @Transactional
+    public ArticleImportResultDTO importArticles(InputStream input, Format format) {
+        long started = System.nanoTime();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        ImportRun run = new ImportRun();
+        try (MappingIterator<ArticleRequestDTO> rows = reader(format).readValues(input)) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            while (run.copyChunk(rows, connection, copyManager)) {
+                log.debug("Imported {} articles so far", run.imported);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("COPY into tb_articles failed", ex);
+        } catch (IOException ex) {
+            throw ArticleException.invalidData(
+                    "Malformed import input after row %d: %s".formatted(run.rowNumber, ex.getMessage()));
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        if (run.imported > 0) {
+            eventPublisher.publishEvent(new ArticlesImportedEvent(run.imported, Instant.now()));
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - started, 1);
+        double rowsPerSecond = run.imported * 1_000_000_000d / elapsedNanos;
+        log.info("Imported {} articles ({} rejected) in {} ms, {} rows/s",
+                run.imported, run.rejected, elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+        return new ArticleImportResultDTO(run.imported, run.rejected, elapsedNanos / 1_000_000,
+                rowsPerSecond, List.copyOf(run.errors));
+    }
+
+    private ObjectReader reader(Format format) {
+        return format == Format.CSV ? csvReader : ndjsonReader;
+    }
+
+    private long[] reserveIds(Connection connection) throws SQLException {
+        long[] ids = new long[chunkSize];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval(?::regclass) FROM generate_series(1, ?)")) {
+            statement.setString(1, idSequence);
+            statement.setInt(2, chunkSize);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int i = 0;
+                while (resultSet.next()) {
+                    ids[i++] = resultSet.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void appendCsvField(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private final class ImportRun {
+
+        private final List<ArticleImportResultDTO.RowError> errors = new ArrayList<>();
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(WRITE_BUFFER_BYTES);
+        private final StringBuilder line = new StringBuilder(256);
+        private long rowNumber;
+        private long imported;
+        private long rejected;
+
+        /**
+         * Copies up to one chunk of valid rows. Returns false once the input is exhausted.
+         */
+        private boolean copyChunk(MappingIterator<ArticleRequestDTO> rows, Connection connection,
+                                  CopyManager copyManager) throws IOException, SQLException {
+            ArticleRequestDTO first = nextValid(rows);
+            if (first == null) {
+                return false;
+            }
+            long[] ids = reserveIds(connection);
+            CopyIn copyIn = copyManager.copyIn(COPY_SQL);
+            try {
+                int used = 0;
+                ArticleRequestDTO row = first;
+                while (row != null) {
+                    encode(ids[used++], row);
+                    if (buffer.size() >= WRITE_BUFFER_BYTES) {
+                        drain(copyIn);
+                    }
+                    row = used < ids.length ? nextValid(rows) : null;
+                }
+                drain(copyIn);
+                imported += copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            return true;
+        }
+
+        private ArticleRequestDTO nextValid(MappingIterator<ArticleRequestDTO> rows) throws IOException {
+            while (rows.hasNextValue()) {
+                ArticleRequestDTO row = rows.nextValue();
+                rowNumber++;
+                Set<ConstraintViolation<ArticleRequestDTO>> violations = validator.validate(row);
+                if (violations.isEmpty()) {
+                    return row;
+                }
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ArticleImportResultDTO.RowError(rowNumber, violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining("; "))));
+                }
+            }
+            return null;
+        }
+
+        private void encode(long id, ArticleRequestDTO row) {
+            line.setLength(0);
+            line.append(id).append(',').append(UUID.randomUUID()).append(',');
+            appendCsvField(line, row.title());
+            line.append(',');
+            appendCsvField(line, row.description());
+            line.append(",false\n");
+            buffer.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void drain(CopyIn copyIn) throws SQLException {
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                buffer.reset();
+            }
+        }
+    }
+}
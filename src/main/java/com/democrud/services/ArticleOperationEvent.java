@@ -0,0 +1,76 @@
+package com.democrud.services;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.function.Supplier;
+
+/**
+ * Flight Recorder event for one ArticleService operation.
+ *
+ * The event duration covers the whole operation, dbTime only the repository calls made by
+ * it. A read served from the cache therefore has a dbTime of zero, and statements Hibernate
+ * flushes at commit are not included. The publicId is recorded as its hash so recordings
+ * can be shared without the ids themselves.
+ *
+ * When no recording has the event enabled, begin and complete cost a few field writes.
+ */
+@Name("com.democrud.ArticleOperation")
+@Label("Article Operation")
+@Category({"Demo CRUD", "Articles"})
+@Description("ArticleService operation with its database time and row count")
+@StackTrace(false)
+final class ArticleOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Public ID Hash")
+    int publicIdHash;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dbTime;
+
+    @Label("Rows")
+    int rows;
+
+    static ArticleOperationEvent begin(String operation, String publicId) {
+        ArticleOperationEvent event = new ArticleOperationEvent();
+        event.operation = operation;
+        event.publicIdHash = publicId != null ? publicId.hashCode() : 0;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Runs a repository call, adding its duration to dbTime.
+     */
+    <T> T db(Supplier<T> query) {
+        if (!isEnabled()) {
+            return query.get();
+        }
+        long started = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            dbTime += System.nanoTime() - started;
+        }
+    }
+
+    ArticleOperationEvent rows(int rows) {
+        this.rows = rows;
+        return this;
+    }
+
+    void complete() {
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
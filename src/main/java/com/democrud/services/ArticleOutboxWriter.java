@@ -0,0 +1,41 @@
+package com.democrud.services;
+
+import com.democrud.domain.ArticleOutboxEvent;
+import com.democrud.repositories.ArticleOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every article change in the outbox table.
+ *
+ * Runs synchronously in the publisher's transaction, so an outbox row exists
+ * exactly when the change it describes was committed.
+ */
+@RequiredArgsConstructor
+@Component
+public class ArticleOutboxWriter {
+
+    private final ArticleOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onArticleEvent(ArticleEvent event) {
+        ArticleOutboxEvent outboxEvent = new ArticleOutboxEvent();
+        outboxEvent.setEventType(ArticleOutboxEvent.EventType.valueOf(event.type().name()));
+        outboxEvent.setPublicId(event.publicId());
+        outboxEvent.setPublished(event.published());
+        outboxEvent.setOccurredAt(event.occurredAt());
+        if (event.article() != null) {
+            try {
+                outboxEvent.setPayload(objectMapper.writeValueAsString(event.article()));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not serialize article " + event.publicId(), ex);
+            }
+        }
+        outboxRepository.save(outboxEvent);
+    }
+
+}
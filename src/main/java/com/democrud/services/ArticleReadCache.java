@@ -0,0 +1,141 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local cache of articles by publicId.
+ *
+ * Readers take a {@link #stamp()} before querying and hand it back with the result;
+ * if an article was changed or deleted in between, the result is not cached, so a
+ * read racing with a local write never resurrects the old article. Changes made on
+ * other nodes are only seen once the entry expires after {@code ttl}.
+ *
+ * Only articles that exist are cached. When full, expired entries are dropped first
+ * and then an arbitrary tenth of the cache, which keeps reads lock-free at the cost
+ * of a less precise eviction order than LRU.
+ */
+@Component
+public class ArticleReadCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ArticleReadCache(MeterRegistry meterRegistry,
+                            @Value("${democrud.read-cache.ttl:PT30S}") Duration ttl,
+                            @Value("${democrud.read-cache.max-entries:10000}") int maxEntries) {
+        this(meterRegistry, ttl, maxEntries, Clock.systemUTC());
+    }
+
+    ArticleReadCache(MeterRegistry meterRegistry, Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.hits = Counter.builder("articles.read.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("articles.read.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("articles.read.cache.size", entries, Map::size)
+                .description("Articles held in the read cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached article, or null when it is not cached or has expired.
+     */
+    public ArticleResponseDTO get(String publicId) {
+        Entry entry = entries.get(publicId);
+        if (entry != null && entry.expiresAt() > clock.millis()) {
+            hits.increment();
+            return entry.article();
+        }
+        if (entry != null) {
+            entries.remove(publicId, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public long stamp() {
+        return version.get();
+    }
+
+    /**
+     * Caches an article read after {@code stamp} was taken, unless an article changed since.
+     */
+    public void put(long stamp, ArticleResponseDTO article) {
+        if (maxEntries <= 0 || version.get() != stamp) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictForSpace();
+        }
+        Entry entry = new Entry(article, clock.millis() + ttl.toMillis());
+        entries.put(article.id(), entry);
+        if (version.get() != stamp) {
+            entries.remove(article.id(), entry);
+        }
+    }
+
+    public void evict(String publicId) {
+        version.incrementAndGet();
+        entries.remove(publicId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Articles currently cached and not expired, in no particular order.
+     */
+    public List<ArticleResponseDTO> articles() {
+        long now = clock.millis();
+        return entries.values().stream()
+                .filter(entry -> entry.expiresAt() > now)
+                .map(Entry::article)
+                .toList();
+    }
+
+    /**
+     * Created articles cannot be cached yet, so only other changes evict.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() != ArticleEvent.Type.CREATED) {
+            evict(event.publicId());
+        }
+    }
+
+    private void evictForSpace() {
+        long now = clock.millis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        int excess = entries.size() - maxEntries + Math.max(maxEntries / 10, 1);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(ArticleResponseDTO article, long expiresAt) { }
+}
@@ -1,77 +1,310 @@
 package com.democrud.services;
 
+import com.democrud.config.exception.ArticleException;
 import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+import com.democrud.presentation.article.dto.ArticleMultiGetResponseDTO;
 import com.democrud.presentation.article.dto.ArticleResponseDTO;
 import com.democrud.repositories.ArticleRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.beans.Transient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+@Observed(name = "article.service")
 @RequiredArgsConstructor
 @Service
 public class ArticleService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final Set<ArticleField> ALL_FIELDS = EnumSet.allOf(ArticleField.class);
+
     private final ArticleRepository articleRepository;
+    private final IdempotencyStore idempotencyStore;
+    private final ArticleWriteBehindQueue writeBehindQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleReadCache readCache;
+    private final ReadCoalescer readCoalescer;
+    private final ArticleIdFilter idFilter;
+    private final ArticleSnapshotStore snapshotStore;
+    private final ArticleAccessTracker accessTracker;
+    private final TransactionOperations transactions;
 
     @Transactional
     public ArticleResponseDTO createArticle(Article entity) {
 
         entity.setPublicId(UUID.randomUUID().toString());
 
-        Article saved = articleRepository.save(entity);
-        return new ArticleResponseDTO(
-                saved.getPublicId(),
-                saved.getTitle(),
-                saved.getDescription(),
-                saved.isPublished()
-        );
+        ArticleOperationEvent event = ArticleOperationEvent.begin("create", entity.getPublicId());
+        try {
+            Article saved = event.db(() -> articleRepository.save(entity));
+            ArticleResponseDTO created = ArticleResponseDTO.fromEntity(saved);
+            eventPublisher.publishEvent(ArticleEvent.created(created));
+            event.rows(1);
+            return created;
+        } finally {
+            event.complete();
+        }
+    }
+
+    /**
+     * Not transactional: a replay waiting for the request that owns its key must not hold a
+     * connection meanwhile. The article is created in its own transaction.
+     */
+    public ArticleResponseDTO createArticle(Article entity, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return transactions.execute(status -> createArticle(entity));
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw ArticleException.invalidData(
+                    "Idempotency-Key must be between 1 and %d characters".formatted(MAX_IDEMPOTENCY_KEY_LENGTH));
+        }
+        return idempotencyStore.execute(idempotencyKey, fingerprint(entity),
+                () -> transactions.execute(status -> createArticle(entity)));
+    }
+
+    public boolean acceptsAsyncWrites() {
+        return writeBehindQueue.isEnabled();
+    }
+
+    /**
+     * Assigns the publicId and hands the article to the write-behind queue.
+     * The article becomes readable once the writer has flushed it.
+     */
+    public ArticleResponseDTO enqueueArticle(Article entity) {
+        entity.setPublicId(UUID.randomUUID().toString());
+        writeBehindQueue.enqueue(entity);
+        return ArticleResponseDTO.fromEntity(entity);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Reads are not transactional themselves so that callers coalesced onto an in-flight
+     * read wait without holding a connection; the repository methods declare their own
+     * read-only transactions, which also route them to a replica.
+     */
     public List<ArticleResponseDTO> findAllArticles() {
-        return articleRepository.findAll()
-                .stream()
-                .map(model -> new ArticleResponseDTO(
-                        model.getPublicId(),
-                        model.getTitle(),
-                        model.getDescription(),
-                        model.isPublished())
-                )
-                .toList();
+        ArticleOperationEvent event = ArticleOperationEvent.begin("findAll", null);
+        try {
+            List<ArticleResponseDTO> articles = readCoalescer.execute(new ReadKey(null, ALL_FIELDS), () -> event
+                    .db(articleRepository::findAll)
+                    .stream()
+                    .map(model -> new ArticleResponseDTO(
+                            model.getPublicId(),
+                            model.getTitle(),
+                            model.getDescription(),
+                            model.isPublished())
+                    )
+                    .toList());
+            event.rows(articles.size());
+            return articles;
+        } finally {
+            event.complete();
+        }
+    }
+
+    /**
+     * Lists articles reading only the selected columns, so unselected text such as the
+     * description is neither fetched from the database nor held on the heap.
+     */
+    public List<ArticleResponseDTO> findAllArticles(Set<ArticleField> fields) {
+        if (fields.containsAll(ALL_FIELDS)) {
+            return findAllArticles();
+        }
+        ArticleOperationEvent event = ArticleOperationEvent.begin("findAllProjected", null);
+        try {
+            List<ArticleResponseDTO> articles = readCoalescer.execute(new ReadKey(null, fields), () -> event
+                    .db(() -> articleRepository.findAllProjected(fields))
+                    .stream()
+                    .map(model -> ArticleResponseDTO.fromEntity(model, fields))
+                    .toList());
+            event.rows(articles.size());
+            return articles;
+        } finally {
+            event.complete();
+        }
     }
 
-    @Transactional(readOnly = true)
+    public ArticleResponseDTO findArticleById(final String articleId, Set<ArticleField> fields) {
+        if (fields.containsAll(ALL_FIELDS)) {
+            return findArticleById(articleId);
+        }
+        ArticleOperationEvent event = ArticleOperationEvent.begin("findByIdProjected", articleId);
+        try {
+            if (idFilter.definitelyAbsent(articleId)) {
+                throw notFound(articleId);
+            }
+            ArticleResponseDTO found = readCoalescer.execute(new ReadKey(articleId, fields), () -> event
+                    .db(() -> articleRepository.findProjectedByPublicId(articleId, fields))
+                    .map(model -> ArticleResponseDTO.fromEntity(model, fields))
+                    .orElseThrow(() -> notFound(articleId)));
+            accessTracker.record(articleId);
+            event.rows(1);
+            return found;
+        } finally {
+            event.complete();
+        }
+    }
+
+    /**
+     * Not transactional: a cache hit must not open a transaction or borrow a connection.
+     * On a miss the repository query runs in its own read-only transaction, declared on
+     * the repository method.
+     */
     public ArticleResponseDTO findArticleById(final String articleId) {
+        ArticleOperationEvent event = ArticleOperationEvent.begin("findById", articleId);
+        try {
+            ArticleResponseDTO cached = readCache.get(articleId);
+            if (cached == null) {
+                cached = snapshotStore.get(articleId);
+            }
+            if (cached == null) {
+                if (idFilter.definitelyAbsent(articleId)) {
+                    throw notFound(articleId);
+                }
+                cached = readCoalescer.execute(new ReadKey(articleId, ALL_FIELDS), () -> loadArticle(articleId, event));
+            }
+            accessTracker.record(articleId);
+            event.rows(1);
+            return cached;
+        } finally {
+            event.complete();
+        }
+    }
 
-        Optional<Article> optional = articleRepository.findByPublicId(articleId);
+    private ArticleResponseDTO loadArticle(final String articleId, ArticleOperationEvent event) {
+        long stamp = readCache.stamp();
+        Optional<Article> optional = event.db(() -> articleRepository.findWithDescriptionByPublicId(articleId));
         if (optional.isPresent()) {
 
-            return new ArticleResponseDTO(
+            ArticleResponseDTO found = new ArticleResponseDTO(
                     optional.get().getPublicId(),
                     optional.get().getTitle(),
                     optional.get().getDescription(),
                     optional.get().isPublished());
+            readCache.put(stamp, found);
+            return found;
         }
-        throw new ResponseStatusException(HttpStatus.NOT_FOUND,
-                "Article not found with id: %s".formatted(articleId));
+        throw notFound(articleId);
+    }
+
+    /**
+     * Resolves several articles at once, in request order and without duplicates.
+     * Cached articles are served from the read cache or the snapshot, ids the id filter rules
+     * out are reported missing straight away, and the rest are loaded with one query.
+     */
+    public ArticleMultiGetResponseDTO findArticlesByIds(final List<String> articleIds) {
+        ArticleOperationEvent event = ArticleOperationEvent.begin("findByIds", null);
+        try {
+            ArticleMultiGetResponseDTO result = findArticlesByIds(articleIds, event);
+            event.rows(result.articles().size());
+            return result;
+        } finally {
+            event.complete();
+        }
+    }
+
+    private ArticleMultiGetResponseDTO findArticlesByIds(final List<String> articleIds, ArticleOperationEvent event) {
+        Set<String> requested = new LinkedHashSet<>(articleIds);
+        Map<String, ArticleResponseDTO> found = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String articleId : requested) {
+            ArticleResponseDTO cached = readCache.get(articleId);
+            if (cached == null) {
+                cached = snapshotStore.get(articleId);
+            }
+            if (cached != null) {
+                found.put(articleId, cached);
+            } else if (!idFilter.definitelyAbsent(articleId)) {
+                uncached.add(articleId);
+            }
+        }
+
+        if (!uncached.isEmpty()) {
+            long stamp = readCache.stamp();
+            for (Article model : event.db(() -> articleRepository.findAllByPublicIds(uncached.toArray(String[]::new)))) {
+                ArticleResponseDTO article = ArticleResponseDTO.fromEntity(model);
+                found.put(article.id(), article);
+                readCache.put(stamp, article);
+            }
+        }
+
+        List<ArticleResponseDTO> articles = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (String articleId : requested) {
+            ArticleResponseDTO article = found.get(articleId);
+            if (article != null) {
+                accessTracker.record(articleId);
+                articles.add(article);
+            } else {
+                missing.add(articleId);
+            }
+        }
+        return new ArticleMultiGetResponseDTO(articles, missing);
     }
 
     @Transactional
     public void deleteArticle(final String articleId) {
-        Optional<Article> optional = articleRepository.findByPublicId(articleId);
-        if (optional.isPresent()) {
-            articleRepository.delete(optional.get());
-        } else {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
-                    "Article not found with id: %s".formatted(articleId));
+        ArticleOperationEvent event = ArticleOperationEvent.begin("delete", articleId);
+        try {
+            if (idFilter.definitelyAbsent(articleId)) {
+                throw notFound(articleId);
+            }
+            Optional<Article> optional = event.db(() -> articleRepository.findByPublicId(articleId));
+            if (optional.isEmpty()) {
+                throw notFound(articleId);
+            }
+            // A concurrent delete of the same id also passes the lookup; only the one whose
+            // DELETE removed the row may publish, or the counters would be decremented twice.
+            int deleted = event.db(() -> articleRepository.deleteByPublicId(articleId));
+            if (deleted == 0) {
+                throw notFound(articleId);
+            }
+            event.rows(deleted);
+            eventPublisher.publishEvent(ArticleEvent.deleted(articleId, optional.get().isPublished()));
+        } finally {
+            event.complete();
+        }
+    }
+
+    /**
+     * Identifies a coalescable read: one article, or the whole list when publicId is null, with the selected fields.
+     */
+    private record ReadKey(String publicId, Set<ArticleField> fields) { }
+
+    private static ResponseStatusException notFound(String articleId) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND,
+                "Article not found with id: %s".formatted(articleId));
+    }
+
+    private static String fingerprint(Article entity) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(entity.getTitle()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(entity.getDescription()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
         }
     }
 }
@@ -0,0 +1,353 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the hot articles in a memory-mapped file so a restarted node can serve them
+ * before its caches have filled.
+ *
+ * Every {@code write-interval} and on shutdown the contents of the read cache are
+ * written to {@code path}: a header, an open-addressing table of id hashes and record
+ * offsets, and the records themselves. On boot a snapshot younger than {@code max-age}
+ * is mapped read-only; lookups probe the table in the mapping and only decode the
+ * record that matches, so the snapshot lives in the page cache, not on the heap.
+ *
+ * Articles cannot be edited, so a snapshot entry only goes stale when its article is
+ * deleted. Once the application is ready, every snapshot id is checked against the
+ * database in batches; missing ids and local deletions are masked. Deletions made on
+ * other nodes after that check are not seen, which is why the snapshot is dropped
+ * {@code serve-for} after boot, by which time the regular caches have taken over.
+ */
+@Slf4j
+@Component
+public class ArticleSnapshotStore implements InitializingBean, DisposableBean {
+
+    private static final int MAGIC = 0x41525453;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 24;
+    private static final int SLOT_BYTES = 12;
+    private static final int REVALIDATION_BATCH = 500;
+
+    private final ArticleReadCache readCache;
+    private final ArticleRepository articleRepository;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration maxAge;
+    private final Duration serveFor;
+    private final int maxArticles;
+    private final Clock clock;
+    private final Counter hits;
+    private final Set<String> invalidated = ConcurrentHashMap.newKeySet();
+
+    private volatile Mapping mapping;
+    private volatile long servingUntil;
+
+    @Autowired
+    public ArticleSnapshotStore(ArticleReadCache readCache,
+                                ArticleRepository articleRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${democrud.snapshot.enabled:false}") boolean enabled,
+                                @Value("${democrud.snapshot.path:${java.io.tmpdir}/demo-crud/articles.snapshot}") Path path,
+                                @Value("${democrud.snapshot.max-age:PT1H}") Duration maxAge,
+                                @Value("${democrud.snapshot.serve-for:PT5M}") Duration serveFor,
+                                @Value("${democrud.snapshot.max-articles:100000}") int maxArticles) {
+        this(readCache, articleRepository, meterRegistry, enabled, path, maxAge, serveFor, maxArticles, Clock.systemUTC());
+    }
+
+    ArticleSnapshotStore(ArticleReadCache readCache, ArticleRepository articleRepository, MeterRegistry meterRegistry,
+                         boolean enabled, Path path, Duration maxAge, Duration serveFor, int maxArticles, Clock clock) {
+        this.readCache = readCache;
+        this.articleRepository = articleRepository;
+        this.enabled = enabled;
+        this.path = path;
+        this.maxAge = maxAge;
+        this.serveFor = serveFor;
+        this.maxArticles = maxArticles;
+        this.clock = clock;
+        this.hits = Counter.builder("articles.snapshot.hits")
+                .description("Reads answered from the memory-mapped snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Maps the snapshot left by the previous run, if it is recent enough.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Mapping loaded = new Mapping(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            long age = clock.millis() - loaded.createdAt();
+            if (age > maxAge.toMillis()) {
+                log.info("Ignoring article snapshot {}, written {} s ago", path, age / 1000);
+                return;
+            }
+            servingUntil = clock.millis() + serveFor.toMillis();
+            mapping = loaded;
+            log.info("Mapped article snapshot {} with {} articles", path, loaded.count());
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not map article snapshot {}, starting cold", path, ex);
+        }
+    }
+
+    /**
+     * Returns the article from the snapshot, or null when it is not there, was deleted
+     * since, or the snapshot is no longer served.
+     */
+    public ArticleResponseDTO get(String publicId) {
+        Mapping current = mapping;
+        if (current == null) {
+            return null;
+        }
+        if (clock.millis() > servingUntil) {
+            mapping = null;
+            invalidated.clear();
+            return null;
+        }
+        if (invalidated.contains(publicId)) {
+            return null;
+        }
+        ArticleResponseDTO article = current.find(publicId);
+        if (article != null) {
+            hits.increment();
+        }
+        return article;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (mapping != null && event.type() == ArticleEvent.Type.DELETED) {
+            invalidated.add(event.publicId());
+        }
+    }
+
+    /**
+     * Masks snapshot entries whose article no longer exists.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void revalidate() {
+        Mapping current = mapping;
+        if (current != null) {
+            Thread.ofVirtual().name("article-snapshot-revalidation").start(() -> revalidate(current));
+        }
+    }
+
+    void revalidate(Mapping current) {
+        long started = System.nanoTime();
+        List<String> ids = current.ids();
+        int missing = 0;
+        try {
+            for (int from = 0; from < ids.size(); from += REVALIDATION_BATCH) {
+                List<String> batch = ids.subList(from, Math.min(from + REVALIDATION_BATCH, ids.size()));
+                Set<String> existing = new HashSet<>();
+                articleRepository.findAllByPublicIds(batch.toArray(String[]::new))
+                        .forEach(article -> existing.add(article.getPublicId()));
+                for (String id : batch) {
+                    if (!existing.contains(id)) {
+                        invalidated.add(id);
+                        missing++;
+                    }
+                }
+            }
+            log.info("Revalidated {} snapshot articles in {} ms, {} no longer exist",
+                    ids.size(), (System.nanoTime() - started) / 1_000_000, missing);
+        } catch (RuntimeException ex) {
+            log.warn("Article snapshot revalidation failed, dropping the snapshot", ex);
+            mapping = null;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${democrud.snapshot.write-interval:PT5M}",
+            fixedDelayString = "${democrud.snapshot.write-interval:PT5M}")
+    public void write() {
+        if (!enabled) {
+            return;
+        }
+        List<ArticleResponseDTO> articles = readCache.articles();
+        if (articles.isEmpty()) {
+            return;
+        }
+        try {
+            write(articles.size() > maxArticles ? articles.subList(0, maxArticles) : articles);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not write article snapshot {}", path, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        write();
+    }
+
+    void write(List<ArticleResponseDTO> articles) throws IOException {
+        ByteBuffer buffer = encode(articles, clock.millis());
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Wrote article snapshot {} with {} articles", path, articles.size());
+    }
+
+    static ByteBuffer encode(List<ArticleResponseDTO> articles, long createdAt) {
+        int slotCount = Integer.highestOneBit(Math.max(articles.size() * 2, 2) - 1) << 1;
+        byte[][][] fields = new byte[articles.size()][][];
+        int recordBytes = 0;
+        for (int i = 0; i < articles.size(); i++) {
+            ArticleResponseDTO article = articles.get(i);
+            fields[i] = new byte[][] {utf8(article.id()), utf8(article.title()), utf8(article.description())};
+            recordBytes += 3 * Integer.BYTES + fields[i][0].length + fields[i][1].length + fields[i][2].length + 1;
+        }
+
+        int recordsStart = HEADER_BYTES + slotCount * SLOT_BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(recordsStart + recordBytes);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(createdAt).putInt(articles.size()).putInt(slotCount);
+        int offset = recordsStart;
+        for (int i = 0; i < articles.size(); i++) {
+            long hash = hash(articles.get(i).id());
+            int slot = (int) (hash & (slotCount - 1));
+            while (buffer.getLong(HEADER_BYTES + slot * SLOT_BYTES) != 0) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            buffer.putLong(HEADER_BYTES + slot * SLOT_BYTES, hash);
+            buffer.putInt(HEADER_BYTES + slot * SLOT_BYTES + Long.BYTES, offset);
+
+            buffer.position(offset);
+            for (byte[] field : fields[i]) {
+                buffer.putInt(field.length).put(field);
+            }
+            Boolean published = articles.get(i).isPublished();
+            buffer.put((byte) (published == null ? 2 : published ? 1 : 0));
+            offset = buffer.position();
+        }
+        return buffer.position(0);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Never returns 0, which marks an empty slot.
+     */
+    private static long hash(String id) {
+        long hash = Hashing.hash(id);
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Read-only view of a snapshot file. Only absolute reads are used, so it is safe to share.
+     */
+    static final class Mapping {
+
+        private final ByteBuffer buffer;
+        private final long createdAt;
+        private final int count;
+        private final int slotCount;
+
+        Mapping(ByteBuffer buffer) {
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("Not an article snapshot");
+            }
+            this.buffer = buffer;
+            this.createdAt = buffer.getLong(8);
+            this.count = buffer.getInt(16);
+            this.slotCount = buffer.getInt(20);
+        }
+
+        long createdAt() {
+            return createdAt;
+        }
+
+        int count() {
+            return count;
+        }
+
+        ArticleResponseDTO find(String publicId) {
+            long hash = hash(publicId);
+            byte[] id = publicId.getBytes(StandardCharsets.UTF_8);
+            int slot = (int) (hash & (slotCount - 1));
+            for (int probes = 0; probes < slotCount; probes++) {
+                int slotOffset = HEADER_BYTES + slot * SLOT_BYTES;
+                long slotHash = buffer.getLong(slotOffset);
+                if (slotHash == 0) {
+                    return null;
+                }
+                if (slotHash == hash) {
+                    int offset = buffer.getInt(slotOffset + Long.BYTES);
+                    if (Arrays.equals(id, bytes(offset))) {
+                        return decode(offset);
+                    }
+                }
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            return null;
+        }
+
+        List<String> ids() {
+            String[] ids = new String[count];
+            int found = 0;
+            for (int slot = 0; slot < slotCount && found < count; slot++) {
+                int slotOffset = HEADER_BYTES + slot * SLOT_BYTES;
+                if (buffer.getLong(slotOffset) != 0) {
+                    ids[found++] = new String(bytes(buffer.getInt(slotOffset + Long.BYTES)), StandardCharsets.UTF_8);
+                }
+            }
+            return Arrays.asList(ids).subList(0, found);
+        }
+
+        private ArticleResponseDTO decode(int offset) {
+            String[] values = new String[3];
+            for (int i = 0; i < values.length; i++) {
+                byte[] value = bytes(offset);
+                values[i] = new String(value, StandardCharsets.UTF_8);
+                offset += Integer.BYTES + value.length;
+            }
+            byte published = buffer.get(offset);
+            return new ArticleResponseDTO(values[0], values[1], values[2], published == 2 ? null : published == 1);
+        }
+
+        private byte[] bytes(int offset) {
+            byte[] value = new byte[buffer.getInt(offset)];
+            buffer.get(offset + Integer.BYTES, value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleStatsDTO;
+import com.democrud.repositories.ArticleCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains the article counts behind {@code GET /api/articles/stats}.
+ *
+ * Like the outbox, the counters are written in the transaction that changes the articles,
+ * so they are exactly as consistent as the data. The deltas of one transaction are summed
+ * and added to a random stripe just before it commits: a batch costs one statement, and
+ * the stripe's row lock is held only for the commit itself.
+ *
+ * The reconciliation job compares the counters with a full count in one repeatable-read
+ * snapshot, where both reflect the same committed transactions, and adds the difference
+ * to stripe 0. Writers never touch stripe 0, so the job neither blocks them nor conflicts
+ * with them.
+ */
+@Slf4j
+@Service
+public class ArticleStatsService {
+
+    static final short RECONCILIATION_STRIPE = 0;
+    private static final long RECONCILIATION_LOCK_KEY = 0x41525453544154L;
+
+    private final ArticleCounterRepository counterRepository;
+    private final TransactionTemplate reconciliationTemplate;
+    private final int stripes;
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    public ArticleStatsService(ArticleCounterRepository counterRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${democrud.stats.stripes:16}") int stripes) {
+        this.counterRepository = counterRepository;
+        this.reconciliationTemplate = new TransactionTemplate(transactionManager);
+        this.reconciliationTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.stripes = stripes;
+    }
+
+    public ArticleStatsDTO stats() {
+        ArticleCounterRepository.Counts counts = counterRepository.sumCounters();
+        return ArticleStatsDTO.of(counts.getTotal(), counts.getPublished());
+    }
+
+    @EventListener
+    public void onArticleEvent(ArticleEvent event) {
+        long sign = event.type() == ArticleEvent.Type.CREATED ? 1 : -1;
+        add(sign, event.published() ? sign : 0);
+    }
+
+    /**
+     * Imported articles are always unpublished.
+     */
+    @EventListener
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        add(event.rowsImported(), 0);
+    }
+
+    /**
+     * Reconciliation scans tb_articles under a snapshot, which can take a while on a large
+     * table, so it runs on its own virtual thread; at most one runs at a time.
+     */
+    @Scheduled(initialDelayString = "${democrud.stats.reconcile-interval:PT6H}",
+            fixedDelayString = "${democrud.stats.reconcile-interval:PT6H}")
+    public void requestReconciliation() {
+        if (reconciling.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("article-stats-reconcile").start(() -> {
+                try {
+                    reconcile();
+                } catch (RuntimeException ex) {
+                    log.warn("Reconciling the article counters failed", ex);
+                } finally {
+                    reconciling.set(false);
+                }
+            });
+        }
+    }
+
+    void reconcile() {
+        reconciliationTemplate.executeWithoutResult(status -> {
+            if (!counterRepository.tryAdvisoryTransactionLock(RECONCILIATION_LOCK_KEY)) {
+                return;
+            }
+            ArticleCounterRepository.Counts counted = counterRepository.countArticles();
+            ArticleCounterRepository.Counts maintained = counterRepository.sumCounters();
+            long totalDrift = counted.getTotal() - maintained.getTotal();
+            long publishedDrift = counted.getPublished() - maintained.getPublished();
+            if (totalDrift != 0 || publishedDrift != 0) {
+                counterRepository.add(RECONCILIATION_STRIPE, totalDrift, publishedDrift);
+                log.warn("Article counters had drifted by {} total and {} published, corrected",
+                        totalDrift, publishedDrift);
+            }
+        });
+    }
+
+    private void add(long total, long published) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            counterRepository.add(randomStripe(), total, published);
+            return;
+        }
+        Delta delta = (Delta) TransactionSynchronizationManager.getResource(this);
+        if (delta == null) {
+            delta = new Delta();
+            TransactionSynchronizationManager.bindResource(this, delta);
+            TransactionSynchronizationManager.registerSynchronization(delta);
+        }
+        delta.total += total;
+        delta.published += published;
+    }
+
+    private short randomStripe() {
+        return (short) (1 + ThreadLocalRandom.current().nextInt(stripes));
+    }
+
+    private final class Delta implements TransactionSynchronization {
+
+        private long total;
+        private long published;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (total != 0 || published != 0) {
+                counterRepository.add(randomStripe(), total, published);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ArticleStatsService.this);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.democrud.services;
+
+import com.democrud.domain.ArticleViewCount;
+import com.democrud.repositories.ArticleViewCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts article views in memory and adds them to tb_article_views in periodic batches.
+ *
+ * A view is one increment of the article's {@link LongAdder}, whose cells spread concurrent
+ * increments of a popular article over several cache lines. A flush swaps in an empty
+ * buffer and claims each adder's sum with {@code sumThenReset}. A view racing with the
+ * swap notices it and moves its unclaimed count to the new buffer; since both sides claim
+ * cell by cell, every view is written once.
+ *
+ * The buffer holds at most {@code max-pending} articles. Views of further articles are
+ * dropped and counted in {@code articles.views.dropped} until the next flush. A failed
+ * flush puts its counts back, and the buffer is flushed on shutdown, so only a crash loses
+ * views: at most one flush interval.
+ *
+ * The reported count is the total returned by this instance's last upsert of the article,
+ * which includes views from other instances, plus its pending views. Reads never query the
+ * table, so an article this instance has not flushed yet shows only its pending views. At
+ * most {@code max-totals} totals are kept; beyond that the least recently flushed ones are
+ * dropped, one per new article, and come back with the article's next flush.
+ */
+@Slf4j
+@Component
+public class ArticleViewCounter implements DisposableBean {
+
+    private final ArticleViewCountRepository viewCountRepository;
+    private final boolean enabled;
+    private final int maxPending;
+    private final int maxTotals;
+    private final Map<String, Long> totals = new ConcurrentHashMap<>();
+    // Keys of totals, least recently flushed first; guarded by flushLock.
+    private final LinkedHashSet<String> flushOrder = new LinkedHashSet<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final DistributionSummary batchSize;
+    private final Counter dropped;
+
+    private volatile Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ArticleViewCounter(ArticleViewCountRepository viewCountRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${democrud.views.enabled:true}") boolean enabled,
+                              @Value("${democrud.views.max-pending:100000}") int maxPending,
+                              @Value("${democrud.views.max-totals:100000}") int maxTotals) {
+        this.viewCountRepository = viewCountRepository;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.maxTotals = maxTotals;
+        Gauge.builder("articles.views.pending", this, counter -> counter.pending.size())
+                .description("Articles with views not yet written")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("articles.views.batch.size")
+                .description("Articles written per view count flush")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("articles.views.dropped")
+                .description("Views not counted because the buffer was full")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Counts one view and returns the article's approximate view count, including it.
+     */
+    public long recordView(String publicId) {
+        add(publicId, 1);
+        LongAdder views = pending.get(publicId);
+        return totals.getOrDefault(publicId, 0L) + (views != null ? views.sum() : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.views.flush-interval:PT5S}")
+    public void flush() {
+        if (enabled && flushLock.tryLock()) {
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushPending();
+            if (!pending.isEmpty()) {
+                log.warn("Could not write views of {} articles on shutdown", pending.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<String, LongAdder> drained = pending;
+        if (drained.isEmpty()) {
+            return;
+        }
+        pending = new ConcurrentHashMap<>();
+
+        List<String> publicIds = new ArrayList<>(drained.size());
+        List<Long> viewCounts = new ArrayList<>(drained.size());
+        drained.forEach((publicId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                publicIds.add(publicId);
+                viewCounts.add(views);
+            }
+        });
+        int size = publicIds.size();
+        if (size == 0) {
+            return;
+        }
+
+        try {
+            for (ArticleViewCount total : viewCountRepository.addAll(
+                    publicIds.toArray(String[]::new), viewCounts.stream().mapToLong(Long::longValue).toArray())) {
+                remember(total.getPublicId(), total.getViewCount());
+            }
+            batchSize.record(size);
+        } catch (RuntimeException ex) {
+            log.warn("Writing views of {} articles failed, keeping them for the next flush", size, ex);
+            for (int i = 0; i < size; i++) {
+                add(publicIds.get(i), viewCounts.get(i));
+            }
+        }
+    }
+
+    private void add(String publicId, long views) {
+        while (true) {
+            Map<String, LongAdder> buffer = pending;
+            LongAdder adder = buffer.get(publicId);
+            if (adder == null) {
+                if (buffer.size() >= maxPending) {
+                    dropped.increment(views);
+                    return;
+                }
+                adder = buffer.computeIfAbsent(publicId, id -> new LongAdder());
+            }
+            adder.add(views);
+            if (buffer == pending) {
+                return;
+            }
+            // A flush swapped the buffer meanwhile; move whatever it has not claimed yet.
+            views = adder.sumThenReset();
+            if (views == 0) {
+                return;
+            }
+        }
+    }
+
+    private void remember(String publicId, long total) {
+        flushOrder.remove(publicId);
+        flushOrder.add(publicId);
+        totals.put(publicId, total);
+        Iterator<String> leastRecentlyFlushed = flushOrder.iterator();
+        while (flushOrder.size() > maxTotals) {
+            totals.remove(leastRecentlyFlushed.next());
+            leastRecentlyFlushed.remove();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.domain.Article;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind buffer for asynchronously accepted articles.
+ *
+ * Request threads only offer to a bounded queue; a single writer thread drains
+ * whatever has accumulated (up to the max batch size) and persists it with one
+ * saveAll, so Hibernate can send the inserts as JDBC batches. A full queue is
+ * reported to the caller as 429 rather than blocking the request thread.
+ *
+ * The writer is stopped after the web server during shutdown and drains the
+ * remaining articles before the datasource is closed.
+ */
+@Slf4j
+@Component
+public class ArticleWriteBehindQueue implements SmartLifecycle {
+
+    /**
+     * Phase in which Spring Boot starts and stops the embedded web server, as documented for
+     * its web server lifecycle: {@code DEFAULT_PHASE - 2048}, below graceful shutdown.
+     */
+    static final int WEB_SERVER_PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+    static final int PHASE = WEB_SERVER_PHASE - 2048;
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<Article> queue;
+
+    private final DistributionSummary batchSize;
+    private final Counter rejected;
+    private final Counter failed;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    public ArticleWriteBehindQueue(ArticleRepository articleRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${democrud.ingest.async.enabled:false}") boolean enabled,
+                                   @Value("${democrud.ingest.async.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${democrud.ingest.async.max-batch-size:500}") int maxBatchSize,
+                                   @Value("${democrud.ingest.async.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.articleRepository = articleRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("articles.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Articles accepted but not yet written")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("articles.ingest.batch.size")
+                .description("Articles persisted per write-behind batch")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("articles.ingest.rejected")
+                .description("Articles rejected because the ingestion queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("articles.ingest.failed")
+                .description("Accepted articles that could not be persisted")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues an article that already has its publicId assigned.
+     *
+     * @throws ArticleException with status 429 when the queue is full or shutting down
+     */
+    public void enqueue(Article article) {
+        if (!accepting || !queue.offer(article)) {
+            rejected.increment();
+            throw ArticleException.ingestionQueueFull();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        accepting = true;
+        running = true;
+        writer = new Thread(this::drainLoop, "article-writer");
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive() || !queue.isEmpty()) {
+            log.error("Write-behind queue did not drain within {}, {} articles were not persisted",
+                    shutdownTimeout, queue.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the embedded web server so no request can enqueue once draining starts.
+     * Lifecycles sharing a phase stop in no guaranteed order, so this one sits below
+     * {@link #WEB_SERVER_PHASE}.
+     */
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        List<Article> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Article first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<Article> batch) {
+        batchSize.record(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> articleRepository.saveAll(batch)
+                    .forEach(this::publishCreated));
+        } catch (RuntimeException ex) {
+            log.warn("Write-behind batch of {} articles failed, retrying one by one", batch.size(), ex);
+            batch.forEach(this::persistSingle);
+        }
+    }
+
+    private void publishCreated(Article saved) {
+        eventPublisher.publishEvent(ArticleEvent.created(ArticleResponseDTO.fromEntity(saved)));
+    }
+
+    private void persistSingle(Article article) {
+        try {
+            article.setId(null);
+            transactionTemplate.executeWithoutResult(status -> publishCreated(articleRepository.save(article)));
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.error("Dropping asynchronously accepted article {}", article.getPublicId(), ex);
+        }
+    }
+}
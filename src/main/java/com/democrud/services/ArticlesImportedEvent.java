@@ -0,0 +1,12 @@
+package com.democrud.services;
+
+import java.time.Instant;
+
+/**
+ * Published inside the transaction of a bulk import that wrote at least one article.
+ *
+ * Imported rows bypass the per-article {@link ArticleEvent} (and with it the outbox),
+ * so consumers holding derived state, such as caches, listen for this instead.
+ */
+public record ArticlesImportedEvent(long rowsImported, Instant occurredAt) {
+}
@@ -0,0 +1,60 @@
+package com.democrud.services;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min sketch over strings: approximate frequencies in fixed memory.
+ *
+ * Estimates never undercount; they overcount by at most about {@code 2/width} of all
+ * increments with probability {@code 1 - 2^-depth}. Counters are updated with
+ * lock-free atomic adds.
+ */
+final class CountMinSketch {
+
+    private final AtomicLongArray counters;
+    private final int depth;
+    private final int width;
+
+    CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        this.counters = new AtomicLongArray(depth * width);
+        this.depth = depth;
+        this.width = width;
+    }
+
+    /**
+     * Adds {@code count} occurrences and returns the new estimate.
+     */
+    long add(String value, long count) {
+        long hash1 = Hashing.hash(value);
+        long hash2 = (hash1 >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = (int) ((hash1 + row * hash2) & (width - 1));
+            estimate = Math.min(estimate, counters.addAndGet(row * width + column, count));
+        }
+        return estimate;
+    }
+
+    long estimate(String value) {
+        long hash1 = Hashing.hash(value);
+        long hash2 = (hash1 >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = (int) ((hash1 + row * hash2) & (width - 1));
+            estimate = Math.min(estimate, counters.get(row * width + column));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halves every counter, so that old popularity fades.
+     */
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs on-demand, time-boxed Java Flight Recorder recordings inside the running JVM.
+ *
+ * Only one recording runs at a time. It uses the JDK settings named by
+ * {@code democrud.profiling.settings} ("profile" samples stacks more often than "default"),
+ * which also enable the application's own events. The recording is bounded by
+ * {@code max-size} on disk and written to its own file in {@code directory} once it stops.
+ * The caller discards the file after sending it; files still present when the application
+ * stops are deleted then.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "democrud.profiling.enabled", havingValue = "true")
+public class FlightRecordingService implements DisposableBean {
+
+    private final Path directory;
+    private final String settings;
+    private final long maxSizeBytes;
+    private final AtomicReference<Recording> active = new AtomicReference<>();
+    private final Set<Path> files = ConcurrentHashMap.newKeySet();
+
+    public FlightRecordingService(@Value("${democrud.profiling.directory:${java.io.tmpdir}/demo-crud/recordings}") Path directory,
+                                  @Value("${democrud.profiling.settings:profile}") String settings,
+                                  @Value("${democrud.profiling.max-size:100MB}") DataSize maxSize) {
+        this.directory = directory;
+        this.settings = settings;
+        this.maxSizeBytes = maxSize.toBytes();
+    }
+
+    /**
+     * Starts a recording and completes with its file once {@code duration} has elapsed.
+     *
+     * @throws ArticleException with status 409 while another recording is running
+     */
+    public CompletableFuture<Path> record(Duration duration) {
+        Recording recording = new Recording(configuration());
+        if (!active.compareAndSet(null, recording)) {
+            recording.close();
+            throw ArticleException.recordingInProgress();
+        }
+        Path file;
+        try {
+            Files.createDirectories(directory);
+            file = directory.resolve("demo-crud-%d.jfr".formatted(Instant.now().toEpochMilli()));
+            recording.setName("demo-crud on demand");
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSizeBytes);
+            recording.setDestination(file);
+            recording.start();
+        } catch (IOException | RuntimeException ex) {
+            release(recording);
+            throw new IllegalStateException("Could not start flight recording", ex);
+        }
+        log.info("Started flight recording for {} into {}", duration, file);
+        return CompletableFuture.supplyAsync(() -> stop(recording, file),
+                CompletableFuture.delayedExecutor(duration.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    public boolean isRecording() {
+        return active.get() != null;
+    }
+
+    /**
+     * Deletes a recording file returned by {@link #record}, once it is no longer needed.
+     */
+    public void discard(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete flight recording {}", file, ex);
+        }
+        files.remove(file);
+    }
+
+    @Override
+    public void destroy() {
+        Recording recording = active.getAndSet(null);
+        if (recording != null) {
+            recording.close();
+        }
+        List.copyOf(files).forEach(this::discard);
+    }
+
+    private Path stop(Recording recording, Path file) {
+        try {
+            recording.stop();
+            files.add(file);
+            log.info("Flight recording written to {} ({} bytes)", file, recording.getSize());
+            return file;
+        } finally {
+            release(recording);
+        }
+    }
+
+    private void release(Recording recording) {
+        recording.close();
+        active.compareAndSet(recording, null);
+    }
+
+    private Configuration configuration() {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Unknown flight recorder settings: " + settings, ex);
+        }
+    }
+}
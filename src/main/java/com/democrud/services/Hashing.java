@@ -0,0 +1,37 @@
+package com.democrud.services;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64-bit string hash shared by the Bloom filter, the count-min sketch and the snapshot index.
+ *
+ * FNV-1a over the UTF-8 bytes, followed by the MurmurHash3 finalizer to spread FNV's weak
+ * low bits over the whole word. Cheap and stable across JVMs, unlike String.hashCode
+ * it is 64 bits wide.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 fmix64 finalizer.
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,19 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates article creation requests carrying the same Idempotency-Key.
+ *
+ * The first request for a key runs the supplied action and records its response;
+ * replays within the retention window get the recorded response back without the
+ * action running again. A replay whose payload fingerprint differs from the
+ * original request is rejected.
+ */
+public interface IdempotencyStore {
+
+    ArticleResponseDTO execute(String key, String fingerprint, Supplier<ArticleResponseDTO> action);
+
+}
@@ -0,0 +1,178 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Node-local idempotency store.
+ *
+ * Entries are kept in insertion order, so with a single TTL the eldest entry is
+ * always the next one to expire. Expired entries are purged from the head on every
+ * access. Past the configured maximum the eldest completed entries are evicted;
+ * entries still in flight are never evicted, or a retry could create twice, so the
+ * map can exceed the maximum by the number of requests currently creating.
+ *
+ * Concurrent requests with the same key share the in-flight result instead of
+ * creating twice. They wait at most {@code wait-timeout} for it and then get 409,
+ * and if the first request fails they get its error. The wait happens before any
+ * transaction is opened, so a waiting request holds no connection.
+ */
+@Component
+@ConditionalOnProperty(name = "democrud.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Duration waitTimeout;
+    private final Clock clock;
+
+    @Autowired
+    public InMemoryIdempotencyStore(@Value("${democrud.idempotency.ttl:PT24H}") Duration ttl,
+                                    @Value("${democrud.idempotency.max-entries:10000}") int maxEntries,
+                                    @Value("${democrud.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this(ttl, maxEntries, waitTimeout, Clock.systemUTC());
+    }
+
+    InMemoryIdempotencyStore(Duration ttl, int maxEntries, Duration waitTimeout, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.waitTimeout = waitTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public ArticleResponseDTO execute(String key, String fingerprint, Supplier<ArticleResponseDTO> action) {
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            long now = clock.millis();
+            purgeExpired(now);
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry(fingerprint, now + ttl.toMillis(), new CompletableFuture<>());
+                entries.put(key, entry);
+                owner = true;
+                evictCompleted();
+            }
+        }
+
+        if (!owner) {
+            if (!entry.fingerprint().equals(fingerprint)) {
+                throw ArticleException.idempotencyKeyReused(key);
+            }
+            return awaitResponse(key, entry);
+        }
+
+        try {
+            ArticleResponseDTO response = action.get();
+            completeAfterCommit(key, entry, response);
+            return response;
+        } catch (RuntimeException ex) {
+            forget(key, entry);
+            entry.response().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Waits for the request that owns the key. Its failure is rethrown as is, so the
+     * replay reports the real error rather than a conflict.
+     */
+    private ArticleResponseDTO awaitResponse(String key, Entry entry) {
+        try {
+            return entry.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw ArticleException.idempotencyKeyInProgress(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ArticleException.idempotencyKeyInProgress(key);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Idempotent request failed", ex.getCause());
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evictCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        int excess = entries.size() - maxEntries;
+        while (excess > 0 && iterator.hasNext()) {
+            if (iterator.next().response().isDone()) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+
+    private void purgeExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (eldest.expiresAt() > now) {
+                return;
+            }
+            if (eldest.response().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Replays may only see an article once it is stored. When the action ran inside a
+     * surrounding transaction, waiters are released after it commits, and on rollback the
+     * key is dropped and they are told to retry.
+     */
+    private void completeAfterCommit(String key, Entry entry, ArticleResponseDTO response) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entry.response().complete(response);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entry.response().complete(response);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    forget(key, entry);
+                    entry.response().completeExceptionally(ArticleException.idempotentRequestRolledBack(key));
+                }
+            }
+        });
+    }
+
+    private void forget(String key, Entry entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private record Entry(String fingerprint, long expiresAt, CompletableFuture<ArticleResponseDTO> response) { }
+}
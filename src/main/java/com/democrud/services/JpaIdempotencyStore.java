@@ -0,0 +1,97 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.domain.IdempotencyRecord;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency store backed by the tb_idempotency_keys table, shared by all nodes.
+ *
+ * The key row is inserted and flushed before the article is created, inside the
+ * same transaction, which the store opens. A concurrent request with the same key blocks on the primary
+ * key until the first one finishes and is then told to retry, at which point it
+ * gets the recorded response.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "democrud.idempotency.store", havingValue = "jpa")
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+
+    public JpaIdempotencyStore(IdempotencyRecordRepository repository,
+                               @Value("${democrud.idempotency.ttl:PT24H}") Duration ttl) {
+        this.repository = repository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    @Transactional
+    public ArticleResponseDTO execute(String key, String fingerprint, Supplier<ArticleResponseDTO> action) {
+        Instant now = Instant.now();
+        Optional<IdempotencyRecord> existing = repository.findById(key);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.getCreatedAt().plus(ttl).isAfter(now)) {
+                return replay(key, fingerprint, record);
+            }
+            repository.delete(record);
+            repository.flush();
+        }
+
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey(key);
+        record.setFingerprint(fingerprint);
+        record.setCreatedAt(now);
+        try {
+            record = repository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException ex) {
+            throw ArticleException.idempotencyKeyInProgress(key);
+        }
+
+        ArticleResponseDTO response = action.get();
+        record.setArticlePublicId(response.id());
+        record.setTitle(response.title());
+        record.setDescription(response.description());
+        record.setPublished(response.isPublished());
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${democrud.idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = repository.deleteCreatedBefore(Instant.now().minus(ttl));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private ArticleResponseDTO replay(String key, String fingerprint, IdempotencyRecord record) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw ArticleException.idempotencyKeyReused(key);
+        }
+        if (record.getArticlePublicId() == null) {
+            throw ArticleException.idempotencyKeyInProgress(key);
+        }
+        return new ArticleResponseDTO(
+                record.getArticlePublicId(),
+                record.getTitle(),
+                record.getDescription(),
+                record.isPublished()
+        );
+    }
+}
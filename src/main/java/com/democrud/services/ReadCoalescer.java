@@ -0,0 +1,100 @@
+package com.democrud.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical reads.
+ *
+ * The first caller for a key runs the read; callers arriving while it is in flight
+ * wait for its result instead of issuing the same query again. Keys live in a
+ * ConcurrentHashMap, so callers only contend with others hashing to the same bin,
+ * never on a global lock. Followers wait at most {@code max-wait}, then run the read
+ * themselves, so one stuck query cannot hold every request for that key hostage.
+ *
+ * Callers must not be inside a transaction: waiting would hold a pooled connection
+ * for nothing. The leader's exception, such as a 404, is shared with its followers.
+ */
+@Slf4j
+@Component
+public class ReadCoalescer {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public ReadCoalescer(MeterRegistry meterRegistry,
+                         @Value("${democrud.single-flight.enabled:true}") boolean enabled,
+                         @Value("${democrud.single-flight.max-wait:PT2S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+        this.leaders = Counter.builder("articles.read.coalesced").tag("role", "leader").register(meterRegistry);
+        this.followers = Counter.builder("articles.read.coalesced").tag("role", "follower").register(meterRegistry);
+        this.timeouts = Counter.builder("articles.read.coalesced").tag("role", "timeout").register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code read}, or joins a run already in flight for an equal {@code key}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> read) {
+        if (!enabled) {
+            return read.get();
+        }
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running == null) {
+            leaders.increment();
+            return lead(key, own, read);
+        }
+
+        followers.increment();
+        try {
+            return (T) running.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            log.debug("In-flight read for {} took longer than {}, reading independently", key, maxWait);
+            return read.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Coalesced read for " + key + " failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for coalesced read for " + key, ex);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> T lead(Object key, CompletableFuture<Object> own, Supplier<T> read) {
+        try {
+            T result = read.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+}
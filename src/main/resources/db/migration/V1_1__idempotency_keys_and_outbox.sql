@@ -0,0 +1,29 @@
+-- Tables added after the last release without migrations.
+--
+-- Databases from that release are baselined at V1 and only had tb_articles, so these
+-- tables are created here rather than in the baseline.
+
+CREATE TABLE tb_idempotency_keys (
+    idempotency_key   VARCHAR(255) NOT NULL,
+    article_public_id VARCHAR(255),
+    created_at        TIMESTAMP(6) WITH TIME ZONE,
+    description       VARCHAR(255),
+    fingerprint       VARCHAR(255),
+    is_published      BOOLEAN      NOT NULL,
+    title             VARCHAR(255),
+    CONSTRAINT tb_idempotency_keys_pkey PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idempotency_created_at_index ON tb_idempotency_keys (created_at);
+
+CREATE TABLE tb_article_outbox (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type   VARCHAR(255) CHECK (event_type IN ('CREATED', 'DELETED')),
+    is_published BOOLEAN      NOT NULL,
+    occurred_at  TIMESTAMP(6) WITH TIME ZONE,
+    payload      TEXT,
+    position     BIGINT,
+    public_id    VARCHAR(255),
+    CONSTRAINT tb_article_outbox_pkey PRIMARY KEY (id),
+    CONSTRAINT outbox_position_index UNIQUE (position)
+);
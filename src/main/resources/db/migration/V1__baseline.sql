@@ -0,0 +1,15 @@
+-- Schema as generated by Hibernate (ddl-auto=update) in the last release without migrations.
+-- Databases created by that release are baselined at this version, so it must match it exactly.
+
+CREATE SEQUENCE IF NOT EXISTS tb_articles_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tb_articles (
+    id           BIGINT       NOT NULL,
+    description  VARCHAR(255),
+    is_published BOOLEAN      NOT NULL,
+    public_id    VARCHAR(255),
+    title        VARCHAR(255),
+    CONSTRAINT tb_articles_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX uuid_index ON tb_articles (public_id);
@@ -0,0 +1,42 @@
+-- Hash-partitions tb_articles on public_id.
+--
+-- Lookups and deletes by public_id are pruned to a single partition, and each
+-- partition is vacuumed and indexed on its own. The partition key has to be part
+-- of every unique constraint, so the primary key becomes (id, public_id); ids stay
+-- unique because they all come from tb_articles_seq.
+--
+-- Existing rows are copied in this migration. On very large tables, run it in a
+-- maintenance window: tb_articles is locked until the copy commits.
+
+ALTER TABLE tb_articles RENAME TO tb_articles_unpartitioned;
+ALTER TABLE tb_articles_unpartitioned RENAME CONSTRAINT tb_articles_pkey TO tb_articles_unpartitioned_pkey;
+ALTER INDEX uuid_index RENAME TO uuid_index_unpartitioned;
+
+CREATE TABLE tb_articles (
+    id           BIGINT       NOT NULL,
+    description  VARCHAR(255),
+    is_published BOOLEAN      NOT NULL,
+    public_id    VARCHAR(255) NOT NULL,
+    title        VARCHAR(255),
+    CONSTRAINT tb_articles_pkey PRIMARY KEY (id, public_id)
+) PARTITION BY HASH (public_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format(
+            'CREATE TABLE tb_articles_p%s PARTITION OF tb_articles FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+            lpad(remainder::text, 2, '0'), remainder);
+    END LOOP;
+END
+$$;
+
+CREATE UNIQUE INDEX uuid_index ON tb_articles (public_id);
+
+INSERT INTO tb_articles (id, description, is_published, public_id, title)
+SELECT id, description, is_published, public_id, title
+FROM tb_articles_unpartitioned;
+
+DROP TABLE tb_articles_unpartitioned;
+
+ANALYZE tb_articles;
@@ -0,0 +1,13 @@
+-- Partial indexes for the outbox sequencer and purge, built without blocking writers.
+--
+-- The sequencer only ever looks for rows without a position, and the purge only for
+-- old rows that have one; both sets are small next to the whole table.
+-- CREATE INDEX CONCURRENTLY cannot run inside a transaction, see the .sql.conf file.
+
+CREATE INDEX CONCURRENTLY outbox_unsequenced_index
+    ON tb_article_outbox (id)
+    WHERE position IS NULL;
+
+CREATE INDEX CONCURRENTLY outbox_sequenced_occurred_at_index
+    ON tb_article_outbox (occurred_at)
+    WHERE position IS NOT NULL;
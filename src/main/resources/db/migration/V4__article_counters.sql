@@ -0,0 +1,18 @@
+-- Maintained article counts, so that statistics never need a count(*) over tb_articles.
+--
+-- Writers add their deltas to a random stripe, so concurrent transactions rarely wait
+-- on the same row lock; the counts are the sums over all stripes. Stripe 0 is only
+-- written here and by the reconciliation job, which corrects any drift into it.
+--
+-- The initial counts are taken in this migration, which scans tb_articles once.
+
+CREATE TABLE tb_article_counters (
+    stripe    SMALLINT NOT NULL,
+    total     BIGINT   NOT NULL,
+    published BIGINT   NOT NULL,
+    CONSTRAINT tb_article_counters_pkey PRIMARY KEY (stripe)
+);
+
+INSERT INTO tb_article_counters (stripe, total, published)
+SELECT 0, count(*), count(*) FILTER (WHERE is_published)
+FROM tb_articles;
@@ -0,0 +1,12 @@
+-- Per-article view counts, written in batches by ArticleViewCounter.
+--
+-- Kept apart from tb_articles so that frequent counter updates never rewrite article
+-- rows or contend with their locks. Counts go away with their article.
+
+CREATE TABLE tb_article_views (
+    public_id  VARCHAR(255) NOT NULL,
+    view_count BIGINT       NOT NULL,
+    CONSTRAINT tb_article_views_pkey PRIMARY KEY (public_id),
+    CONSTRAINT tb_article_views_article_fkey FOREIGN KEY (public_id)
+        REFERENCES tb_articles (public_id) ON DELETE CASCADE
+);
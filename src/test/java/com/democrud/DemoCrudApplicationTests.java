@@ -3,7 +3,8 @@ package com.democrud;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// The application skips schema validation on startup; the migrated schema is checked against the entities here.
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
 class DemoCrudApplicationTests {
 
 	@Test
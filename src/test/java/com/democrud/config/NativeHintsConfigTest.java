@@ -0,0 +1,68 @@
+package com.democrud.config;
+
+import com.democrud.config.exception.ErrorResponse;
+import com.democrud.domain.Article;
+import com.democrud.domain.ArticleCounter;
+import com.democrud.domain.ArticleViewCount;
+import com.democrud.presentation.article.dto.ArticleMultiGetRequestDTO;
+import com.democrud.presentation.article.dto.ArticleMultiGetResponseDTO;
+import com.democrud.presentation.article.dto.ArticleRequestDTO;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.presentation.article.dto.ArticleStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.DemoCrudRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldCoverRecordsUsedForJson() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ArticleResponseDTO.class.getMethod("title")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ArticleRequestDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ArticleMultiGetRequestDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ArticleMultiGetResponseDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ArticleStatsDTO.class)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldCoverCounterEntities() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(ArticleCounter.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(ArticleViewCount.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldCoverLombokAccessorsAndBuilders() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Article.class.getMethod("getPublicId")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(ErrorResponse.ErrorResponseBuilder.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldIncludeMigrationScripts() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__baseline.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V3__outbox_partial_indexes.sql.conf"))
+                .accepts(hints);
+    }
+}
@@ -0,0 +1,76 @@
+package com.democrud.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdaptivePoolSizerTest {
+
+    private MeterRegistry meterRegistry;
+    private HikariDataSource pool;
+    private HikariPoolMXBean poolState;
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pool = mock(HikariDataSource.class);
+        poolState = mock(HikariPoolMXBean.class);
+        when(pool.getPoolName()).thenReturn("primary");
+        when(pool.getHikariPoolMXBean()).thenReturn(poolState);
+        when(pool.getHikariConfigMXBean()).thenReturn(pool);
+        when(pool.getMaximumPoolSize()).thenReturn(10);
+        when(pool.getMinimumIdle()).thenReturn(10);
+        sizer = new AdaptivePoolSizer(List.of(pool), meterRegistry, 5, 40, 2, 0.5);
+    }
+
+    @Test
+    void targetSize_ShouldGrowWhenWaitingDominatesUsage() {
+        assertThat(sizer.targetSize(10, 8_000_000, 10_000_000, 3, 0)).isEqualTo(12);
+        assertThat(sizer.targetSize(40, 8_000_000, 10_000_000, 3, 0)).isEqualTo(40);
+    }
+
+    @Test
+    void targetSize_ShouldNotGrowWhenDatabaseTimeDominates() {
+        assertThat(sizer.targetSize(10, 1_000_000, 10_000_000, 3, 0)).isEqualTo(10);
+    }
+
+    @Test
+    void targetSize_ShouldShrinkWhenConnectionsSitIdle() {
+        assertThat(sizer.targetSize(10, 0, 1_000_000, 0, 6)).isEqualTo(8);
+        assertThat(sizer.targetSize(5, 0, 1_000_000, 0, 5)).isEqualTo(5);
+    }
+
+    @Test
+    void resize_ShouldApplyTargetFromLastIntervalOnly() {
+        Timer acquire = meterRegistry.timer("hikaricp.connections.acquire", "pool", "primary");
+        Timer usage = meterRegistry.timer("hikaricp.connections.usage", "pool", "primary");
+        when(poolState.getThreadsAwaitingConnection()).thenReturn(4);
+
+        acquire.record(Duration.ofMillis(1));
+        usage.record(Duration.ofMillis(20));
+        sizer.resize();
+        verify(pool, never()).setMaximumPoolSize(anyInt());
+
+        acquire.record(Duration.ofMillis(30));
+        usage.record(Duration.ofMillis(20));
+        sizer.resize();
+
+        verify(pool).setMaximumPoolSize(12);
+        verify(pool, never()).setMinimumIdle(anyInt());
+    }
+}
@@ -0,0 +1,78 @@
+package com.democrud.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaA = mock(DataSource.class);
+    private final DataSource replicaB = mock(DataSource.class);
+    private ClientWriteTracker writeTracker;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        writeTracker = new ClientWriteTracker(Duration.ofMinutes(1));
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replicaA, replicaB),
+                DataSourceRoutingProperties.Strategy.ROUND_ROBIN, writeTracker, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ClientWriteTracker.clearClient();
+    }
+
+    @Test
+    void determineTargetDataSource_ShouldUsePrimaryOutsideReadOnlyTransactions() {
+        assertThat(routingDataSource.determineTargetDataSource()).isSameAs(primary);
+    }
+
+    @Test
+    void determineTargetDataSource_ShouldRoundRobinReadOnlyTransactionsOverReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(
+                routingDataSource.determineTargetDataSource(),
+                routingDataSource.determineTargetDataSource(),
+                routingDataSource.determineTargetDataSource()
+        )).containsExactly(replicaA, replicaB, replicaA);
+    }
+
+    @Test
+    void determineTargetDataSource_ShouldKeepReadsOnPrimaryAfterOwnWrite() {
+        ClientWriteTracker.bindClient("client-1");
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.determineTargetDataSource();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.determineTargetDataSource()).isSameAs(primary);
+
+        ClientWriteTracker.bindClient("client-2");
+        assertThat(routingDataSource.determineTargetDataSource()).isIn(replicaA, replicaB);
+    }
+
+    @Test
+    void checkReplicas_ShouldTakeUnreachableReplicaOutOfRotation() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("connection refused"));
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.healthyReplicaCount()).isZero();
+        assertThat(routingDataSource.determineTargetDataSource()).isSameAs(primary);
+    }
+}
@@ -0,0 +1,48 @@
+package com.democrud.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application with replica routing and adaptive pool sizing together, with the
+ * local database standing in for the replica.
+ */
+@SpringBootTest(properties = {
+        "democrud.datasource.routing.enabled=true",
+        "democrud.datasource.routing.replicas[0].url=${spring.datasource.url}",
+        "democrud.datasource.routing.replicas[0].username=${spring.datasource.username}",
+        "democrud.datasource.routing.replicas[0].password=${spring.datasource.password}",
+        "democrud.datasource.pool.adaptive.enabled=true",
+        "democrud.tracing.exporter=none"
+})
+class RoutingDataSourceContextTest {
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AdaptivePoolSizer adaptivePoolSizer;
+
+    @Test
+    void adaptivePoolSizer_ShouldResizeThePrimaryPool() {
+        assertThat(adaptivePoolSizer.pools()).containsExactly(primaryDataSource);
+    }
+
+    @Test
+    void dataSource_ShouldBeInstrumentedAndServeConnections() throws Exception {
+        assertThat(Proxy.isProxyClass(dataSource.getClass())).isTrue();
+        try (var connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+    }
+}
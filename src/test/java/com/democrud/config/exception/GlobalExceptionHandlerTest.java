@@ -2,7 +2,9 @@ package com.democrud.config.exception;
 
 import com.democrud.presentation.article.ArticleController;
 import com.democrud.services.ArticleService;
+import com.democrud.services.ArticleViewCounter;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -31,6 +33,9 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private ArticleService articleService;
 
+    @MockBean
+    private ArticleViewCounter viewCounter;
+
     @Test
     void shouldHandleValidationErrors() throws Exception {
         // Given: Invalid request with blank title and description
@@ -107,6 +112,17 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.errorId").exists());
     }
 
+    @Test
+    void shouldHandleUnknownPath() throws Exception {
+        // When & Then: Should return 404 for a path without handler or static resource
+        mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("Endpoint not found"))
+                .andExpect(jsonPath("$.path").value("/api-docs"))
+                .andExpect(jsonPath("$.errorId").exists());
+    }
+
     @Test
     void shouldHandleGenericException() throws Exception {
         // Given: Service throws unexpected exception
@@ -123,6 +139,23 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.errorId").exists());
     }
 
+    @Test
+    void shouldUseTraceIdAsErrorId() throws Exception {
+        // Given: A traced request whose service call fails
+        when(articleService.findAllArticles())
+                .thenThrow(new RuntimeException("Unexpected error"));
+        MDC.put(GlobalExceptionHandler.TRACE_ID_KEY, "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        // When & Then: The error ID points at the trace
+        try {
+            mockMvc.perform(get("/api/articles"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.errorId").value("ERR-4bf92f3577b34da6a3ce929d0e0e4736"));
+        } finally {
+            MDC.remove(GlobalExceptionHandler.TRACE_ID_KEY);
+        }
+    }
+
     @Test
     void shouldHandleCustomArticleException() throws Exception {
         // Given: Service throws custom ArticleException
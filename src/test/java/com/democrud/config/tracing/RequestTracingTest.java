@@ -0,0 +1,47 @@
+package com.democrud.config.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs requests through the traced application on one thread, as a reused Tomcat worker
+ * would, against the migrated PostgreSQL schema.
+ */
+@SpringBootTest(properties = "democrud.tracing.exporter=none")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class RequestTracingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void requestsOnOneThread_ShouldEachGetTheirOwnTrace() throws Exception {
+        String firstErrorId = errorIdOfUnknownArticle();
+        String secondErrorId = errorIdOfUnknownArticle();
+
+        assertThat(firstErrorId).startsWith("ERR-");
+        assertThat(secondErrorId).startsWith("ERR-").isNotEqualTo(firstErrorId);
+    }
+
+    private String errorIdOfUnknownArticle() throws Exception {
+        String body = mockMvc.perform(get("/api/articles/{id}", UUID.randomUUID().toString()))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("errorId").asText();
+    }
+}
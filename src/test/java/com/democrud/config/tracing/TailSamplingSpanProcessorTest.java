@@ -0,0 +1,124 @@
+package com.democrud.config.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailSamplingSpanProcessorTest {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(1_700_000_000L);
+
+    private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+    private final TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(
+            SimpleSpanProcessor.create(new CapturingExporter()), Duration.ofMillis(500), 0.0, 2, Duration.ofMinutes(1));
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+    private final Tracer tracer = tracerProvider.get("test");
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.shutdown();
+    }
+
+    @Test
+    void dropsFastSuccessfulTraces() {
+        trace(Duration.ofMillis(20), false);
+
+        assertThat(exported).isEmpty();
+        assertThat(processor.pendingTraces()).isZero();
+    }
+
+    @Test
+    void keepsWholeTraceWhenRootIsSlow() {
+        trace(Duration.ofSeconds(2), false);
+
+        assertThat(exported).extracting(SpanData::getName).containsExactly("SELECT", "http get");
+    }
+
+    @Test
+    void keepsWholeTraceWhenAChildFailed() {
+        trace(Duration.ofMillis(20), true);
+
+        assertThat(exported).extracting(SpanData::getName).containsExactly("SELECT", "http get");
+        assertThat(exported.get(0).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    @Test
+    void keepsTraceWhenRequestEndedWithServerError() {
+        Span root = tracer.spanBuilder("http get").setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+        root.setAttribute("outcome", "SERVER_ERROR");
+        root.end(START + TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.NANOSECONDS);
+
+        assertThat(exported).extracting(SpanData::getName).containsExactly("http get");
+    }
+
+    @Test
+    void stopsBufferingBeyondMaxTraces() {
+        List<Span> roots = List.of(startRoot(), startRoot(), startRoot());
+        for (Span root : roots) {
+            try (Scope ignored = root.makeCurrent()) {
+                tracer.spanBuilder("SELECT").startSpan().end();
+            }
+        }
+
+        assertThat(processor.pendingTraces()).isEqualTo(2);
+
+        roots.forEach(root -> root.end(START + TimeUnit.SECONDS.toNanos(1), TimeUnit.NANOSECONDS));
+
+        assertThat(processor.pendingTraces()).isZero();
+        assertThat(exported).extracting(SpanData::getName)
+                .containsExactly("SELECT", "http get", "SELECT", "http get", "http get");
+    }
+
+    private Span startRoot() {
+        return tracer.spanBuilder("http get").setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+    }
+
+    private void trace(Duration rootDuration, boolean childFails) {
+        Span root = startRoot();
+        try (Scope ignored = root.makeCurrent()) {
+            Span child = tracer.spanBuilder("SELECT").startSpan();
+            if (childFails) {
+                child.setStatus(StatusCode.ERROR);
+            }
+            child.end();
+            assertThat(exported).isEmpty();
+        } finally {
+            root.end(START + rootDuration.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final class CapturingExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
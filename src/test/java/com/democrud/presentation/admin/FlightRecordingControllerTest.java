@@ -0,0 +1,74 @@
+package com.democrud.presentation.admin;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.services.FlightRecordingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = FlightRecordingController.class, properties = "democrud.profiling.enabled=true")
+class FlightRecordingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FlightRecordingService flightRecordingService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void record_ShouldReturnRecordingFile() throws Exception {
+        // Given
+        Path file = Files.write(tempDir.resolve("demo-crud-1.jfr"), new byte[]{'F', 'L', 'R', 0});
+        when(flightRecordingService.record(Duration.ofSeconds(10)))
+                .thenReturn(CompletableFuture.completedFuture(file));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/admin/profiling/recordings").param("seconds", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"demo-crud-1.jfr\""))
+                .andExpect(content().bytes(new byte[]{'F', 'L', 'R', 0}));
+        verify(flightRecordingService).discard(file);
+    }
+
+    @Test
+    void record_WhenDurationOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/admin/profiling/recordings").param("seconds", "301"))
+                .andExpect(status().isBadRequest());
+
+        verify(flightRecordingService, never()).record(any());
+    }
+
+    @Test
+    void record_WhenRecordingInProgress_ShouldReturnConflict() throws Exception {
+        // Given
+        when(flightRecordingService.record(any())).thenThrow(ArticleException.recordingInProgress());
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/profiling/recordings"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+}
@@ -0,0 +1,70 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleChangeDTO;
+import com.democrud.presentation.article.dto.ArticleChangesResponseDTO;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.services.ArticleChangeFeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ArticleChangeController.class)
+class ArticleChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ArticleChangeFeedService changeFeedService;
+
+    @Test
+    void findChanges_ShouldReturnChangesAfterCursor() throws Exception {
+        // Given
+        ArticleChangesResponseDTO changes = new ArticleChangesResponseDTO(List.of(
+                new ArticleChangeDTO(42, "CREATED", "uuid-1", false,
+                        new ArticleResponseDTO("uuid-1", "Title 1", "Description 1", false),
+                        Instant.parse("2025-01-01T00:00:00Z"))), 42);
+        when(changeFeedService.awaitChanges(41L, 100, Duration.ofSeconds(5)))
+                .thenReturn(CompletableFuture.completedFuture(changes));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/articles/changes")
+                        .param("since", "41")
+                        .param("waitSeconds", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextSince").value(42))
+                .andExpect(jsonPath("$.changes[0].sequence").value(42))
+                .andExpect(jsonPath("$.changes[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.changes[0].article.title").value("Title 1"));
+    }
+
+    @Test
+    void findChanges_ShouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/articles/changes").param("limit", "5000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"));
+
+        verify(changeFeedService, never()).awaitChanges(anyLong(), anyInt(), any());
+    }
+}
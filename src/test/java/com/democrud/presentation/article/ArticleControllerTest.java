@@ -1,10 +1,16 @@
 package com.democrud.presentation.article;
 
 import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+import com.democrud.presentation.article.dto.ArticleMultiGetResponseDTO;
 import com.democrud.presentation.article.dto.ArticleRequestDTO;
 import com.democrud.presentation.article.dto.ArticleResponseDTO;
 import com.democrud.services.ArticleService;
+import com.democrud.services.ArticleViewCounter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,9 +22,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +42,9 @@ class ArticleControllerTest {
     @MockBean
     private ArticleService articleService;
 
+    @MockBean
+    private ArticleViewCounter viewCounter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,7 +60,7 @@ class ArticleControllerTest {
     @Test
     void createArticle_ShouldCreateArticleSuccessfully() throws Exception {
         // Given
-        when(articleService.createArticle(any(Article.class))).thenReturn(articleResponseDTO);
+        when(articleService.createArticle(any(Article.class), isNull())).thenReturn(articleResponseDTO);
 
         // When & Then
         mockMvc.perform(post("/api/articles")
@@ -59,7 +72,59 @@ class ArticleControllerTest {
                 .andExpect(jsonPath("$.description").value("Test Description"))
                 .andExpect(jsonPath("$.isPublished").value(false));
 
-        verify(articleService).createArticle(any(Article.class));
+        verify(articleService).createArticle(any(Article.class), isNull());
+    }
+
+    @Test
+    void createArticle_ShouldPassIdempotencyKeyToService() throws Exception {
+        // Given
+        when(articleService.createArticle(any(Article.class), eq("key-123"))).thenReturn(articleResponseDTO);
+
+        // When & Then
+        mockMvc.perform(post("/api/articles")
+                        .header("Idempotency-Key", "key-123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleRequestDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("test-uuid-123"));
+
+        verify(articleService).createArticle(any(Article.class), eq("key-123"));
+    }
+
+    @Test
+    void createArticle_ShouldAcceptAsynchronouslyWhenPreferred() throws Exception {
+        // Given
+        when(articleService.acceptsAsyncWrites()).thenReturn(true);
+        when(articleService.enqueueArticle(any(Article.class))).thenReturn(articleResponseDTO);
+
+        // When & Then
+        mockMvc.perform(post("/api/articles")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleRequestDTO)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/articles/test-uuid-123"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.id").value("test-uuid-123"));
+
+        verify(articleService).enqueueArticle(any(Article.class));
+        verify(articleService, never()).createArticle(any(Article.class), any());
+    }
+
+    @Test
+    void createArticle_ShouldCreateSynchronouslyWhenAsyncDisabled() throws Exception {
+        // Given
+        when(articleService.acceptsAsyncWrites()).thenReturn(false);
+        when(articleService.createArticle(any(Article.class), isNull())).thenReturn(articleResponseDTO);
+
+        // When & Then
+        mockMvc.perform(post("/api/articles")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleRequestDTO)))
+                .andExpect(status().isCreated());
+
+        verify(articleService, never()).enqueueArticle(any(Article.class));
     }
 
     @Test
@@ -112,6 +177,111 @@ class ArticleControllerTest {
         verify(articleService).findAllArticles();
     }
 
+    @Test
+    void findAllArticles_ShouldOnlyReturnSelectedFields() throws Exception {
+        // Given
+        when(articleService.findAllArticles(EnumSet.of(ArticleField.ID, ArticleField.TITLE)))
+                .thenReturn(List.of(new ArticleResponseDTO("test-uuid-123", "Test Title", null, null)));
+
+        // When & Then
+        mockMvc.perform(get("/api/articles").param("fields", "id, title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("test-uuid-123"))
+                .andExpect(jsonPath("$[0].title").value("Test Title"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].isPublished").doesNotExist());
+
+        verify(articleService, never()).findAllArticles();
+    }
+
+    @Test
+    void findArticleById_ShouldRejectUnknownField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/articles/test-uuid-123").param("fields", "title,body"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("'body'")));
+
+        verifyNoInteractions(articleService);
+    }
+
+    @Test
+    void findArticlesByIds_ShouldReturnFoundAndMissingArticles() throws Exception {
+        // Given
+        when(articleService.findArticlesByIds(List.of("test-uuid-123", "missing-uuid")))
+                .thenReturn(new ArticleMultiGetResponseDTO(List.of(articleResponseDTO), List.of("missing-uuid")));
+
+        // When & Then
+        mockMvc.perform(post("/api/articles/_mget")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"test-uuid-123\",\"missing-uuid\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].id").value("test-uuid-123"))
+                .andExpect(jsonPath("$.missing[0]").value("missing-uuid"));
+    }
+
+    @Test
+    void findArticlesByIds_ShouldRejectEmptyIdList() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/articles/_mget")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(articleService);
+    }
+
+    @Test
+    void findAllArticles_ShouldNegotiateCbor() throws Exception {
+        // Given
+        when(articleService.findAllArticles()).thenReturn(List.of(articleResponseDTO));
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/articles").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        ArticleResponseDTO[] articles = new CBORMapper().readValue(body, ArticleResponseDTO[].class);
+        org.assertj.core.api.Assertions.assertThat(articles).containsExactly(articleResponseDTO);
+    }
+
+    @Test
+    void findArticleById_ShouldNegotiateProtobuf() throws Exception {
+        // Given
+        when(articleService.findArticleById("test-uuid-123")).thenReturn(articleResponseDTO);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/articles/test-uuid-123").accept(ArticleProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ArticleProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        UnknownFieldSet article = UnknownFieldSet.parseFrom(body);
+        org.assertj.core.api.Assertions.assertThat(article.getField(1).getLengthDelimitedList().get(0).toStringUtf8())
+                .isEqualTo("test-uuid-123");
+    }
+
+    @Test
+    void createArticle_ShouldAcceptProtobufRequest() throws Exception {
+        // Given
+        when(articleService.createArticle(any(Article.class), isNull())).thenReturn(articleResponseDTO);
+        UnknownFieldSet request = UnknownFieldSet.newBuilder()
+                .addField(1, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("Test Title")).build())
+                .addField(2, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("Test Description")).build())
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/articles")
+                        .contentType(ArticleProtobufHttpMessageConverter.PROTOBUF)
+                        .content(request.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("test-uuid-123"));
+
+        verify(articleService).createArticle(argThat(article -> "Test Title".equals(article.getTitle())), isNull());
+    }
+
     @Test
     void findArticleById_ShouldReturnArticleWhenExists() throws Exception {
         // Given
@@ -129,6 +299,23 @@ class ArticleControllerTest {
         verify(articleService).findArticleById(articleId);
     }
 
+    @Test
+    void findArticleById_ShouldCountViewAndReturnViewCount() throws Exception {
+        // Given
+        String articleId = "test-uuid-123";
+        when(articleService.findArticleById(articleId)).thenReturn(articleResponseDTO);
+        when(viewCounter.isEnabled()).thenReturn(true);
+        when(viewCounter.recordView(articleId)).thenReturn(42L);
+
+        // When & Then
+        mockMvc.perform(get("/api/articles/{id}", articleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("test-uuid-123"))
+                .andExpect(jsonPath("$.viewCount").value(42));
+
+        verify(viewCounter).recordView(articleId);
+    }
+
     @Test
     void findArticleById_ShouldReturnNotFoundWhenArticleDoesNotExist() throws Exception {
         // Given
@@ -141,6 +328,7 @@ class ArticleControllerTest {
                 .andExpect(status().isNotFound());
 
         verify(articleService).findArticleById(articleId);
+        verify(viewCounter, never()).recordView(any());
     }
 
     @Test
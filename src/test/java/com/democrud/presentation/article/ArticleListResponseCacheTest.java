@@ -0,0 +1,100 @@
+package com.democrud.presentation.article;
+
+import com.democrud.domain.ArticleField;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.services.ArticleEvent;
+import com.democrud.services.ArticleService;
+import com.democrud.services.ArticleViewCounter;
+import com.democrud.services.ArticlesImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ArticleListResponseCacheTest {
+
+    private final ArticleService articleService = mock(ArticleService.class);
+    private ArticleListResponseCache cache;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ArticleListResponseCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 1024 * 1024);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ArticleController(articleService, mock(ArticleViewCounter.class)))
+                .addFilters(cache)
+                .build();
+        when(articleService.findAllArticles()).thenReturn(List.of(
+                new ArticleResponseDTO("uuid-1", "First title", "First description", false)));
+    }
+
+    @Test
+    void getAllArticles_ShouldReplaySerializedBodyUntilWriteCommits() throws Exception {
+        String first = mockMvc.perform(get("/api/articles")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$[0].id").value("uuid-1"));
+        verify(articleService, times(1)).findAllArticles();
+
+        cache.onArticleEvent(ArticleEvent.deleted("uuid-1", false));
+        mockMvc.perform(get("/api/articles")).andExpect(status().isOk());
+        verify(articleService, times(2)).findAllArticles();
+
+        cache.onArticlesImported(new ArticlesImportedEvent(10, Instant.now()));
+        String afterImport = mockMvc.perform(get("/api/articles")).andReturn().getResponse().getContentAsString();
+        verify(articleService, times(3)).findAllArticles();
+        assertThat(afterImport).isEqualTo(first);
+    }
+
+    @Test
+    void getAllArticles_ShouldServeGzipAndNotModifiedFromCache() throws Exception {
+        MvcResult miss = mockMvc.perform(get("/api/articles")).andReturn();
+        String etag = miss.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        byte[] compressed = mockMvc.perform(get("/api/articles").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo(miss.getResponse().getContentAsString());
+        }
+
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(articleService, times(1)).findAllArticles();
+    }
+
+    @Test
+    void getAllArticles_ShouldBypassCacheForOtherRepresentations() throws Exception {
+        mockMvc.perform(get("/api/articles"));
+        mockMvc.perform(get("/api/articles").accept(MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/articles").queryParam("fields", "id"));
+
+        verify(articleService, times(2)).findAllArticles();
+        verify(articleService).findAllArticles(EnumSet.of(ArticleField.ID));
+    }
+}
@@ -0,0 +1,75 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleRequestDTO;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleProtobufHttpMessageConverterTest {
+
+    private static final Type ARTICLE_LIST = new ParameterizedTypeReference<List<ArticleResponseDTO>>() { }.getType();
+
+    private final ArticleProtobufHttpMessageConverter converter = new ArticleProtobufHttpMessageConverter();
+
+    @Test
+    void write_ShouldEncodeArticleListPerProtoSchema() throws Exception {
+        List<ArticleResponseDTO> articles = List.of(
+                new ArticleResponseDTO("uuid-1", "First title", "First description", true),
+                new ArticleResponseDTO("uuid-2", "Second title", "Ünïcode description", false));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(articles, ARTICLE_LIST, ArticleProtobufHttpMessageConverter.PROTOBUF, output);
+
+        List<ByteString> encoded = UnknownFieldSet.parseFrom(output.getBodyAsBytes()).getField(1).getLengthDelimitedList();
+        assertThat(encoded).hasSize(2);
+        UnknownFieldSet first = UnknownFieldSet.parseFrom(encoded.get(0));
+        assertThat(first.getField(1).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("uuid-1");
+        assertThat(first.getField(2).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("First title");
+        assertThat(first.getField(4).getVarintList()).containsExactly(1L);
+        UnknownFieldSet second = UnknownFieldSet.parseFrom(encoded.get(1));
+        assertThat(second.getField(3).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("Ünïcode description");
+        assertThat(second.hasField(4)).as("proto3 omits default values").isFalse();
+    }
+
+    @Test
+    void canWrite_ShouldOnlyAcceptArticleTypes() {
+        assertThat(converter.canWrite(ARTICLE_LIST, List.class, ArticleProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(ArticleResponseDTO.class, ArticleResponseDTO.class, null)).isTrue();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<String>>() { }.getType(), List.class, null)).isFalse();
+        assertThat(converter.canWrite(Map.class, Map.class, null)).isFalse();
+    }
+
+    @Test
+    void read_ShouldDecodeArticleRequestAndSkipUnknownFields() throws Exception {
+        byte[] body = UnknownFieldSet.newBuilder()
+                .addField(1, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("A title")).build())
+                .addField(2, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("A description")).build())
+                .addField(9, UnknownFieldSet.Field.newBuilder().addVarint(42).build())
+                .build()
+                .toByteArray();
+
+        Object request = converter.read(ArticleRequestDTO.class, null, new MockHttpInputMessage(body));
+
+        assertThat(request).isEqualTo(new ArticleRequestDTO("A title", "A description"));
+    }
+
+    @Test
+    void read_ShouldRejectMalformedInput() {
+        byte[] truncated = {0x0A, 0x10, 'a'};
+
+        assertThatThrownBy(() -> converter.read(ArticleRequestDTO.class, null, new MockHttpInputMessage(truncated)))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+}
@@ -0,0 +1,167 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of an article listing in each negotiable representation.
+ *
+ * Not part of the test suite. Run with:
+ * <pre>
+ * ./mvnw test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath com.democrud.presentation.article.ArticleSerializationBenchmark"
+ * </pre>
+ * Payload sizes are printed before the benchmarks start; JMH options go after the class name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleSerializationBenchmark {
+
+    private static final Type ARTICLE_LIST = new ParameterizedTypeReference<List<ArticleResponseDTO>>() { }.getType();
+    private static final TypeReference<List<ArticleResponseDTO>> ARTICLE_LIST_REF = new TypeReference<>() { };
+
+    @Param({"1000"})
+    public int articles;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new CBORMapper();
+    private final ObjectMapper smile = new SmileMapper();
+    private final ArticleProtobufHttpMessageConverter protobuf = new ArticleProtobufHttpMessageConverter();
+
+    private List<ArticleResponseDTO> listing;
+    private byte[] jsonBytes;
+    private byte[] cborBytes;
+    private byte[] smileBytes;
+    private byte[] protobufBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        listing = sampleListing(articles);
+        jsonBytes = json.writeValueAsBytes(listing);
+        cborBytes = cbor.writeValueAsBytes(listing);
+        smileBytes = smile.writeValueAsBytes(listing);
+        protobufBytes = encodeProtobuf();
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return json.writeValueAsBytes(listing);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cbor.writeValueAsBytes(listing);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smile.writeValueAsBytes(listing);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        protobuf.write(listing, ARTICLE_LIST, ArticleProtobufHttpMessageConverter.PROTOBUF, output);
+        return output.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public List<ArticleResponseDTO> decodeJson() throws IOException {
+        return json.readValue(jsonBytes, ARTICLE_LIST_REF);
+    }
+
+    @Benchmark
+    public List<ArticleResponseDTO> decodeCbor() throws IOException {
+        return cbor.readValue(cborBytes, ARTICLE_LIST_REF);
+    }
+
+    @Benchmark
+    public List<ArticleResponseDTO> decodeSmile() throws IOException {
+        return smile.readValue(smileBytes, ARTICLE_LIST_REF);
+    }
+
+    /**
+     * Decodes the way a client holding the generated ArticleList class would, without
+     * generating it: the server never reads this message.
+     */
+    @Benchmark
+    public List<ArticleResponseDTO> decodeProtobuf() throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(protobufBytes);
+        List<ArticleResponseDTO> decoded = new ArrayList<>(articles);
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            int limit = in.pushLimit(in.readRawVarint32());
+            String id = null;
+            String title = null;
+            String description = null;
+            boolean published = false;
+            int field;
+            while ((field = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(field)) {
+                    case 1 -> id = in.readStringRequireUtf8();
+                    case 2 -> title = in.readStringRequireUtf8();
+                    case 3 -> description = in.readStringRequireUtf8();
+                    case 4 -> published = in.readBool();
+                    default -> in.skipField(field);
+                }
+            }
+            in.popLimit(limit);
+            decoded.add(new ArticleResponseDTO(id, title, description, published));
+        }
+        return decoded;
+    }
+
+    private static List<ArticleResponseDTO> sampleListing(int size) {
+        List<ArticleResponseDTO> listing = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            listing.add(new ArticleResponseDTO(
+                    UUID.nameUUIDFromBytes(("article-" + i).getBytes()).toString(),
+                    "Understanding Spring Boot, part " + i,
+                    "A comprehensive guide to Spring Boot development covering configuration, "
+                            + "persistence and testing, chapter " + i,
+                    i % 3 == 0));
+        }
+        return listing;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ArticleSerializationBenchmark sizes = new ArticleSerializationBenchmark();
+        sizes.articles = 1000;
+        sizes.setUp();
+        System.out.printf("Payload for %d articles: json=%d cbor=%d smile=%d protobuf=%d bytes%n",
+                sizes.articles, sizes.jsonBytes.length, sizes.cborBytes.length,
+                sizes.smileBytes.length, sizes.protobufBytes.length);
+        new Runner(new CommandLineOptions(args)).run();
+    }
+}
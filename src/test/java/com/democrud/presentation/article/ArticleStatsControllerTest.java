@@ -0,0 +1,50 @@
+package com.democrud.presentation.article;
+
+import com.democrud.presentation.article.dto.ArticleStatsDTO;
+import com.democrud.services.ArticleService;
+import com.democrud.services.ArticleStatsService;
+import com.democrud.services.ArticleViewCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({ArticleStatsController.class, ArticleController.class})
+class ArticleStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ArticleStatsService statsService;
+
+    @MockBean
+    private ArticleService articleService;
+
+    @MockBean
+    private ArticleViewCounter viewCounter;
+
+    @Test
+    void findStats_ShouldReturnMaintainedCountsInsteadOfArticleLookup() throws Exception {
+        // Given
+        when(statsService.stats()).thenReturn(ArticleStatsDTO.of(1200, 800));
+
+        // When & Then
+        mockMvc.perform(get("/api/articles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1200))
+                .andExpect(jsonPath("$.published").value(800))
+                .andExpect(jsonPath("$.unpublished").value(400));
+
+        verify(articleService, never()).findArticleById(anyString());
+    }
+}
@@ -0,0 +1,122 @@
+package com.democrud.presentation.article;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.services.ArticleEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleStreamBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ManualExecutor senders;
+    private ArticleStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        senders = new ManualExecutor();
+        broadcaster = new ArticleStreamBroadcaster(new ObjectMapper(), meterRegistry, 2, 3, Duration.ofMinutes(1), senders);
+    }
+
+    @Test
+    void subscribe_ShouldRejectSubscribersBeyondLimit() {
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        assertThatThrownBy(() -> broadcaster.subscribe())
+                .isInstanceOf(ArticleException.class)
+                .hasMessageContaining("Too many article stream subscribers");
+    }
+
+    @Test
+    void onArticleEvent_ShouldScheduleOneSenderPerSubscriberUntilDrained() {
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        broadcaster.onArticleEvent(created("uuid-1"));
+        broadcaster.onArticleEvent(created("uuid-2"));
+
+        assertThat(senders.pending).hasSize(2);
+        senders.runAll();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onArticleEvent_ShouldEvictSubscriberWhoseBufferIsFull() {
+        broadcaster.subscribe();
+
+        broadcaster.onArticleEvent(created("uuid-1"));
+        broadcaster.onArticleEvent(created("uuid-2"));
+        broadcaster.onArticleEvent(ArticleEvent.deleted("uuid-1", false));
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(meterRegistry.get("articles.stream.evicted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void onArticleEvent_ShouldSkipWorkWithoutSubscribers() {
+        broadcaster.onArticleEvent(created("uuid-1"));
+
+        assertThat(senders.pending).isEmpty();
+    }
+
+    private static ArticleEvent created(String publicId) {
+        return ArticleEvent.created(new ArticleResponseDTO(publicId, "Title", "Description", false));
+    }
+
+    /**
+     * Collects sender tasks so tests control when subscriber buffers are drained.
+     */
+    private static final class ManualExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        void runAll() {
+            List<Runnable> tasks = new ArrayList<>(pending);
+            pending.clear();
+            tasks.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            pending.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
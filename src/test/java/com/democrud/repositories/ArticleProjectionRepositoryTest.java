@@ -0,0 +1,73 @@
+package com.democrud.repositories;
+
+import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Criteria projections against the migrated PostgreSQL schema; each test rolls back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArticleProjectionRepositoryTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    private Article saved;
+
+    @BeforeEach
+    void setUp() {
+        Article article = new Article();
+        article.setPublicId(UUID.randomUUID().toString());
+        article.setTitle("Projected title");
+        article.setDescription("Projected description");
+        article.setPublished(true);
+        saved = articleRepository.saveAndFlush(article);
+    }
+
+    @Test
+    void findProjectedByPublicId_ShouldFillOnlySelectedFields() {
+        Optional<Article> found = articleRepository.findProjectedByPublicId(saved.getPublicId(),
+                EnumSet.of(ArticleField.ID, ArticleField.TITLE));
+
+        assertThat(found).hasValueSatisfying(article -> {
+            assertThat(article.getPublicId()).isEqualTo(saved.getPublicId());
+            assertThat(article.getTitle()).isEqualTo("Projected title");
+            assertThat(article.getDescription()).isNull();
+            assertThat(article.isPublished()).isFalse();
+            assertThat(article.getId()).isNull();
+        });
+    }
+
+    @Test
+    void findProjectedByPublicId_ShouldReturnEmptyForUnknownId() {
+        assertThat(articleRepository.findProjectedByPublicId(UUID.randomUUID().toString(),
+                EnumSet.of(ArticleField.TITLE))).isEmpty();
+    }
+
+    @Test
+    void findAllProjected_ShouldIncludeSavedArticle() {
+        List<Article> articles = articleRepository.findAllProjected(
+                EnumSet.of(ArticleField.ID, ArticleField.IS_PUBLISHED));
+
+        assertThat(articles)
+                .filteredOn(article -> saved.getPublicId().equals(article.getPublicId()))
+                .singleElement()
+                .satisfies(article -> {
+                    assertThat(article.isPublished()).isTrue();
+                    assertThat(article.getTitle()).isNull();
+                });
+    }
+}
@@ -0,0 +1,136 @@
+package com.democrud.services;
+
+import com.democrud.domain.Article;
+import com.democrud.repositories.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleAccessTrackerTest {
+
+    @TempDir
+    private Path directory;
+
+    private ArticleRepository articleRepository;
+    private ArticleReadCache readCache;
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        readCache = new ArticleReadCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 1000);
+        path = directory.resolve("hot-articles.tsv");
+    }
+
+    @Test
+    void record_ShouldKeepMostRequestedArticlesAmongLongTail() {
+        ArticleAccessTracker tracker = tracker(true, 3);
+        for (int round = 0; round < 50; round++) {
+            tracker.record("hot-1");
+            tracker.record("hot-1");
+            tracker.record("hot-2");
+            tracker.record("hot-3");
+            tracker.record("tail-" + round);
+        }
+
+        assertThat(tracker.topArticles()).extracting(Map.Entry::getKey)
+                .containsExactlyInAnyOrder("hot-1", "hot-2", "hot-3");
+        assertThat(tracker.topArticles().get(0).getKey()).isEqualTo("hot-1");
+        assertThat(tracker.topArticles().get(0).getValue()).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void record_ShouldEvictMemberThatIsLeastPopularNow() {
+        ArticleAccessTracker tracker = tracker(true, 2);
+        tracker.record("early");
+        tracker.record("steady");
+        for (int i = 0; i < 10; i++) {
+            tracker.record("early");
+        }
+        tracker.record("newcomer");
+        tracker.record("newcomer");
+
+        assertThat(tracker.topArticles()).extracting(Map.Entry::getKey)
+                .containsExactly("early", "newcomer");
+        assertThat(tracker.topArticles().get(0).getValue()).isEqualTo(11);
+    }
+
+    @Test
+    void record_ShouldIgnoreReadsWhenDisabled() {
+        ArticleAccessTracker tracker = tracker(false, 3);
+        tracker.record("hot-1");
+
+        assertThat(tracker.topArticles()).isEmpty();
+    }
+
+    @Test
+    void decay_ShouldLetNewlyPopularArticlesDisplaceOldOnes() {
+        ArticleAccessTracker tracker = tracker(true, 1);
+        for (int i = 0; i < 64; i++) {
+            tracker.record("yesterday");
+        }
+        for (int i = 0; i < 6; i++) {
+            tracker.decay();
+        }
+        for (int i = 0; i < 4; i++) {
+            tracker.record("today");
+        }
+
+        assertThat(tracker.topArticles()).extracting(Map.Entry::getKey).containsExactly("today");
+    }
+
+    @Test
+    void run_ShouldPreloadArticlesWrittenOnShutdownWithOneQuery() throws Exception {
+        ArticleAccessTracker previous = tracker(true, 10);
+        previous.record("uuid-1");
+        previous.record("uuid-1");
+        previous.record("uuid-2");
+        previous.destroy();
+        assertThat(Files.readAllLines(path)).containsExactly("2\tuuid-1", "1\tuuid-2");
+
+        when(articleRepository.findAllByPublicIds(any())).thenAnswer(invocation ->
+                Arrays.stream((String[]) invocation.getArgument(0)).map(ArticleAccessTrackerTest::article).toList());
+        ArticleAccessTracker restarted = tracker(true, 10);
+        restarted.run(null);
+
+        verify(articleRepository, times(1)).findAllByPublicIds(any());
+        assertThat(readCache.get("uuid-1")).isNotNull();
+        assertThat(readCache.get("uuid-2")).isNotNull();
+        assertThat(restarted.topArticles()).extracting(Map.Entry::getKey).containsExactly("uuid-1", "uuid-2");
+    }
+
+    @Test
+    void run_ShouldStartColdWithoutRecordedList() {
+        tracker(true, 10).run(null);
+
+        assertThat(readCache.size()).isZero();
+        verify(articleRepository, times(0)).findAllByPublicIds(any());
+    }
+
+    private ArticleAccessTracker tracker(boolean enabled, int topN) {
+        return new ArticleAccessTracker(articleRepository, readCache, enabled, topN, path);
+    }
+
+    private static Article article(String publicId) {
+        Article article = new Article();
+        article.setPublicId(publicId);
+        article.setTitle("Title " + publicId);
+        article.setDescription("Description");
+        return article;
+    }
+}
@@ -0,0 +1,103 @@
+package com.democrud.services;
+
+import com.democrud.domain.ArticleOutboxEvent;
+import com.democrud.presentation.article.dto.ArticleChangesResponseDTO;
+import com.democrud.repositories.ArticleOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleChangeFeedServiceTest {
+
+    @Mock
+    private ArticleOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new ArticleChangeFeedService(outboxRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                transactionManager, 1000, Duration.ofDays(7));
+    }
+
+    @Test
+    void findChanges_ShouldMapOutboxEventsAndAdvanceCursor() {
+        when(outboxRepository.findByPositionGreaterThanOrderByPositionAsc(eq(10L), any(Limit.class)))
+                .thenReturn(List.of(
+                        event(11L, ArticleOutboxEvent.EventType.CREATED, "uuid-1",
+                                "{\"id\":\"uuid-1\",\"title\":\"Title 1\",\"description\":\"Description 1\",\"isPublished\":false}"),
+                        event(12L, ArticleOutboxEvent.EventType.DELETED, "uuid-2", null)));
+
+        ArticleChangesResponseDTO result = changeFeedService.findChanges(10, 100);
+
+        assertThat(result.nextSince()).isEqualTo(12);
+        assertThat(result.changes()).hasSize(2);
+        assertThat(result.changes().get(0).type()).isEqualTo("CREATED");
+        assertThat(result.changes().get(0).article().title()).isEqualTo("Title 1");
+        assertThat(result.changes().get(1).type()).isEqualTo("DELETED");
+        assertThat(result.changes().get(1).article()).isNull();
+    }
+
+    @Test
+    void findChanges_ShouldKeepCursorWhenNothingNew() {
+        when(outboxRepository.findByPositionGreaterThanOrderByPositionAsc(eq(5L), any(Limit.class)))
+                .thenReturn(List.of());
+
+        ArticleChangesResponseDTO result = changeFeedService.findChanges(5, 100);
+
+        assertThat(result.changes()).isEmpty();
+        assertThat(result.nextSince()).isEqualTo(5);
+    }
+
+    @Test
+    void awaitChanges_ShouldCompleteWhenSequencerAdvancesHead() throws Exception {
+        when(outboxRepository.findByPositionGreaterThanOrderByPositionAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(event(1L, ArticleOutboxEvent.EventType.DELETED, "uuid-1", null)));
+        when(outboxRepository.findMaxPosition()).thenReturn(1L);
+
+        CompletableFuture<ArticleChangesResponseDTO> pending = changeFeedService.awaitChanges(0, 100, Duration.ofSeconds(10));
+        assertThat(pending).isNotDone();
+
+        changeFeedService.sequenceAndNotify();
+
+        assertThat(pending.get(1, TimeUnit.SECONDS).nextSince()).isEqualTo(1);
+    }
+
+    @Test
+    void awaitChanges_ShouldReturnEmptyBatchAfterTimeout() throws Exception {
+        when(outboxRepository.findByPositionGreaterThanOrderByPositionAsc(eq(3L), any(Limit.class)))
+                .thenReturn(List.of());
+
+        ArticleChangesResponseDTO result = changeFeedService.awaitChanges(3, 100, Duration.ofMillis(50))
+                .get(1, TimeUnit.SECONDS);
+
+        assertThat(result.changes()).isEmpty();
+        assertThat(result.nextSince()).isEqualTo(3);
+    }
+
+    private static ArticleOutboxEvent event(long position, ArticleOutboxEvent.EventType type, String publicId, String payload) {
+        return new ArticleOutboxEvent(position, position, type, publicId, false, payload, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+}
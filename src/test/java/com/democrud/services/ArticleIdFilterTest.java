@@ -0,0 +1,151 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleIdFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ArticleOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ArticleIdFilter(jdbcTemplate, outboxRepository, transactionManager,
+                new SimpleMeterRegistry(), true, 1000, 0.01);
+    }
+
+    @Test
+    void definitelyAbsent_ShouldRejectNothingBeforeFirstBuild() {
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.definitelyAbsent("never-existed")).isFalse();
+    }
+
+    @Test
+    void rebuild_ShouldRejectUnknownIdsAndKeepKnownOnes() throws Exception {
+        stubTable("uuid-1", "uuid-2");
+
+        filter.rebuild();
+
+        assertThat(filter.definitelyAbsent("uuid-1")).isFalse();
+        assertThat(filter.definitelyAbsent("uuid-2")).isFalse();
+        assertThat(filter.definitelyAbsent("never-existed")).isTrue();
+    }
+
+    @Test
+    void onArticleEvent_ShouldAddCreatedArticles() throws Exception {
+        stubTable();
+        filter.rebuild();
+
+        filter.onArticleEvent(ArticleEvent.created(new ArticleResponseDTO("uuid-new", "Title", "Description", false)));
+
+        assertThat(filter.definitelyAbsent("uuid-new")).isFalse();
+    }
+
+    @Test
+    void syncFromOutbox_ShouldAddArticlesCreatedOnOtherNodes() throws Exception {
+        when(outboxRepository.findMaxPosition()).thenReturn(5L);
+        stubTable();
+        filter.rebuild();
+
+        when(outboxRepository.findMaxPosition()).thenReturn(7L);
+        when(outboxRepository.findCreatedPublicIds(5L, 7L)).thenReturn(List.of("uuid-remote"));
+        filter.syncFromOutbox();
+
+        assertThat(filter.definitelyAbsent("uuid-remote")).isFalse();
+    }
+
+    @Test
+    void onArticlesImported_ShouldStopRejectingUntilRebuilt() throws Exception {
+        stubTable();
+        filter.rebuild();
+
+        filter.onArticlesImported(new ArticlesImportedEvent(10, Instant.now()));
+
+        assertThat(filter.definitelyAbsent("uuid-imported")).isFalse();
+    }
+
+    @Test
+    void requestRebuild_ShouldDiscardFilterBuiltDuringImportAndRebuild() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        AtomicInteger streams = new AtomicInteger();
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            when(resultSet.getString(1)).thenReturn("uuid-1");
+            handler.processRow(resultSet);
+            if (streams.incrementAndGet() == 1) {
+                filter.onArticlesImported(new ArticlesImportedEvent(1, Instant.now()));
+            } else {
+                when(resultSet.getString(1)).thenReturn("uuid-imported");
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.requestRebuild();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!filter.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(streams).hasValue(2);
+        assertThat(filter.definitelyAbsent("uuid-imported")).isFalse();
+    }
+
+    @Test
+    void bloomFilter_ShouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter bloom = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloom.put(UUID.nameUUIDFromBytes(("in-" + i).getBytes()).toString()));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> bloom.mightContain(UUID.nameUUIDFromBytes(("out-" + i).getBytes()).toString()))
+                .count();
+
+        assertThat(falsePositives / 100_000d).isLessThan(0.02);
+    }
+
+    private void stubTable(String... publicIds) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String publicId : publicIds) {
+                when(resultSet.getString(1)).thenReturn(publicId);
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
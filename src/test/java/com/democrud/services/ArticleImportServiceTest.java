@@ -0,0 +1,163 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.presentation.article.dto.ArticleImportResultDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private PreparedStatement idStatement;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<String> copies = new ArrayList<>();
+    private ArticleImportService importService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        importService = new ArticleImportService(dataSource,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), eventPublisher, "tb_articles_seq", CHUNK_SIZE);
+
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(idStatement);
+        AtomicLong sequence = new AtomicLong(100);
+        lenient().when(idStatement.executeQuery()).thenAnswer(invocation -> idResultSet(sequence));
+        lenient().when(copyManager.copyIn(anyString())).thenAnswer(invocation -> recordingCopyIn());
+    }
+
+    @Test
+    void importArticles_ShouldCopyValidCsvRowsInChunks() {
+        String csv = """
+                title,description
+                First title,"A description with ""quotes"", commas"
+                Second title,Second description text
+                Third title,Third description text
+                """;
+
+        ArticleImportResultDTO result = importService.importArticles(stream(csv), ArticleImportService.Format.CSV);
+
+        assertThat(result.rowsImported()).isEqualTo(3);
+        assertThat(result.rowsRejected()).isZero();
+        assertThat(copies).hasSize(2);
+        assertThat(copies.get(0)).startsWith("100,")
+                .contains(",\"First title\",\"A description with \"\"quotes\"\", commas\",false\n");
+        assertThat(copies.get(1)).startsWith("102,").contains("\"Third title\"");
+        verify(eventPublisher).publishEvent(argThat((ArticlesImportedEvent event) -> event.rowsImported() == 3));
+    }
+
+    @Test
+    void importArticles_ShouldSkipAndReportInvalidNdjsonRows() {
+        String ndjson = """
+                {"title":"Valid title","description":"A valid description"}
+                {"title":"","description":"short"}
+                {"title":"Another title","description":"Another valid description"}
+                """;
+
+        ArticleImportResultDTO result = importService.importArticles(stream(ndjson), ArticleImportService.Format.NDJSON);
+
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.rowsRejected()).isEqualTo(1);
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.row()).isEqualTo(2);
+                    assertThat(error.message()).contains("Title is required and cannot be blank");
+                });
+    }
+
+    @Test
+    void importArticles_ShouldRejectMalformedInput() {
+        String ndjson = """
+                {"title":"Valid title","description":"A valid description"}
+                {"title": broken
+                """;
+
+        assertThatThrownBy(() -> importService.importArticles(stream(ndjson), ArticleImportService.Format.NDJSON))
+                .isInstanceOf(ArticleException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void importArticles_ShouldNotOpenCopyForEmptyInput() throws Exception {
+        ArticleImportResultDTO result = importService.importArticles(
+                stream("title,description\n"), ArticleImportService.Format.CSV);
+
+        assertThat(result.rowsImported()).isZero();
+        verify(copyManager, never()).copyIn(anyString());
+    }
+
+    private ResultSet idResultSet(AtomicLong sequence) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        AtomicInteger remaining = new AtomicInteger(CHUNK_SIZE);
+        when(resultSet.next()).thenAnswer(invocation -> remaining.getAndDecrement() > 0);
+        when(resultSet.getLong(1)).thenAnswer(invocation -> sequence.getAndIncrement());
+        return resultSet;
+    }
+
+    private CopyIn recordingCopyIn() throws Exception {
+        CopyIn copyIn = mock(CopyIn.class);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        lenient().doAnswer(invocation -> {
+            written.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        lenient().when(copyIn.endCopy()).thenAnswer(invocation -> {
+            String copy = written.toString(StandardCharsets.UTF_8);
+            copies.add(copy);
+            return copy.lines().count();
+        });
+        return copyIn;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleReadCacheTest {
+
+    private MutableClock clock;
+    private ArticleReadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new ArticleReadCache(new SimpleMeterRegistry(), Duration.ofSeconds(30), 10, clock);
+    }
+
+    @Test
+    void get_ShouldReturnCachedArticleUntilItExpires() {
+        cache.put(cache.stamp(), article("uuid-1"));
+
+        assertThat(cache.get("uuid-1")).isEqualTo(article("uuid-1"));
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(cache.get("uuid-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_ShouldIgnoreReadsThatRacedWithAChange() {
+        long stamp = cache.stamp();
+        cache.onArticleEvent(ArticleEvent.deleted("uuid-1", false));
+
+        cache.put(stamp, article("uuid-1"));
+
+        assertThat(cache.get("uuid-1")).isNull();
+    }
+
+    @Test
+    void onArticleEvent_ShouldEvictDeletedArticlesOnly() {
+        cache.put(cache.stamp(), article("uuid-1"));
+        cache.put(cache.stamp(), article("uuid-2"));
+        long stamp = cache.stamp();
+
+        cache.onArticleEvent(ArticleEvent.created(article("uuid-3")));
+        cache.onArticleEvent(ArticleEvent.deleted("uuid-1", false));
+
+        assertThat(cache.get("uuid-1")).isNull();
+        assertThat(cache.get("uuid-2")).isNotNull();
+        assertThat(cache.stamp()).isEqualTo(stamp + 1);
+    }
+
+    @Test
+    void put_ShouldStayWithinMaxEntries() {
+        for (int i = 0; i < 25; i++) {
+            cache.put(cache.stamp(), article("uuid-" + i));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("uuid-24")).isNotNull();
+    }
+
+    private static ArticleResponseDTO article(String id) {
+        return new ArticleResponseDTO(id, "Title " + id, "Description " + id, false);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
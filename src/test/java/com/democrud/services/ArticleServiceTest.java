@@ -1,24 +1,40 @@
 package com.democrud.services;
 
+import com.democrud.config.exception.ArticleException;
 import com.democrud.domain.Article;
+import com.democrud.domain.ArticleField;
+import com.democrud.presentation.article.dto.ArticleMultiGetResponseDTO;
 import com.democrud.presentation.article.dto.ArticleResponseDTO;
 import com.democrud.repositories.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +43,33 @@ class ArticleServiceTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private ArticleWriteBehindQueue writeBehindQueue;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ArticleReadCache readCache;
+
+    @Mock
+    private ArticleIdFilter idFilter;
+
+    @Mock
+    private ArticleSnapshotStore snapshotStore;
+
+    @Mock
+    private ArticleAccessTracker accessTracker;
+
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(new SimpleMeterRegistry(), true, Duration.ofSeconds(1));
+
+    @Spy
+    private TransactionOperations transactions = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -67,6 +110,84 @@ class ArticleServiceTest {
         assertThat(testArticle.getPublicId()).isNotNull(); // UUID should be set
     }
 
+    @Test
+    void createArticle_ShouldPublishCreatedEvent() {
+        // Given
+        when(articleRepository.save(any(Article.class))).thenReturn(savedArticle);
+        ArgumentCaptor<ArticleEvent> event = ArgumentCaptor.forClass(ArticleEvent.class);
+
+        // When
+        articleService.createArticle(testArticle);
+
+        // Then
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(ArticleEvent.Type.CREATED);
+        assertThat(event.getValue().publicId()).isEqualTo("test-uuid-123");
+        assertThat(event.getValue().article().title()).isEqualTo("Test Title");
+    }
+
+    @Test
+    void createArticle_WithIdempotencyKey_ShouldDelegateToIdempotencyStore() {
+        // Given
+        ArticleResponseDTO recorded = new ArticleResponseDTO("test-uuid-123", "Test Title", "Test Description", false);
+        when(idempotencyStore.execute(eq("key-123"), anyString(), any())).thenReturn(recorded);
+
+        // When
+        ArticleResponseDTO result = articleService.createArticle(testArticle, "key-123");
+
+        // Then
+        assertThat(result).isSameAs(recorded);
+        verify(idempotencyStore).execute(eq("key-123"), anyString(), any());
+        verify(articleRepository, never()).save(any(Article.class));
+    }
+
+    @Test
+    void createArticle_WithoutIdempotencyKey_ShouldBypassIdempotencyStore() {
+        // Given
+        when(articleRepository.save(any(Article.class))).thenReturn(savedArticle);
+
+        // When
+        ArticleResponseDTO result = articleService.createArticle(testArticle, null);
+
+        // Then
+        assertThat(result.id()).isEqualTo("test-uuid-123");
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    void createArticle_ShouldRejectBlankIdempotencyKey() {
+        assertThatThrownBy(() -> articleService.createArticle(testArticle, " "))
+                .isInstanceOf(ArticleException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        verifyNoInteractions(idempotencyStore, articleRepository);
+    }
+
+    @Test
+    void enqueueArticle_ShouldAssignPublicIdAndQueueArticle() {
+        // When
+        ArticleResponseDTO result = articleService.enqueueArticle(testArticle);
+
+        // Then
+        assertThat(result.id()).isNotNull().isEqualTo(testArticle.getPublicId());
+        assertThat(result.title()).isEqualTo("Test Title");
+        verify(writeBehindQueue).enqueue(testArticle);
+        verify(articleRepository, never()).save(any(Article.class));
+    }
+
+    @Test
+    void enqueueArticle_ShouldPropagateBackpressure() {
+        // Given
+        doThrow(ArticleException.ingestionQueueFull()).when(writeBehindQueue).enqueue(any(Article.class));
+
+        // When & Then
+        assertThatThrownBy(() -> articleService.enqueueArticle(testArticle))
+                .isInstanceOf(ArticleException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @Test
     void findAllArticles_ShouldReturnAllArticles() {
         // Given
@@ -113,11 +234,53 @@ class ArticleServiceTest {
         verify(articleRepository).findAll();
     }
 
+    @Test
+    void findAllArticles_WithFields_ShouldReadOnlySelectedColumns() {
+        // Given
+        Set<ArticleField> fields = EnumSet.of(ArticleField.ID, ArticleField.TITLE);
+        Article projected = new Article();
+        projected.setPublicId("test-uuid-123");
+        projected.setTitle("Test Title");
+        when(articleRepository.findAllProjected(fields)).thenReturn(List.of(projected));
+
+        // When
+        List<ArticleResponseDTO> result = articleService.findAllArticles(fields);
+
+        // Then
+        assertThat(result).containsExactly(new ArticleResponseDTO("test-uuid-123", "Test Title", null, null));
+        verify(articleRepository, never()).findAll();
+    }
+
+    @Test
+    void findArticleById_WithAllFields_ShouldLoadEntity() {
+        // Given
+        when(articleRepository.findWithDescriptionByPublicId("test-uuid-123")).thenReturn(Optional.of(savedArticle));
+
+        // When
+        ArticleResponseDTO result = articleService.findArticleById("test-uuid-123", EnumSet.allOf(ArticleField.class));
+
+        // Then
+        assertThat(result.description()).isEqualTo("Test Description");
+        verify(articleRepository, never()).findProjectedByPublicId(anyString(), any());
+    }
+
+    @Test
+    void findArticleById_WithFields_ShouldThrowExceptionWhenNotFound() {
+        // Given
+        Set<ArticleField> fields = EnumSet.of(ArticleField.TITLE);
+        when(articleRepository.findProjectedByPublicId("missing", fields)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> articleService.findArticleById("missing", fields))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Article not found with id: missing");
+    }
+
     @Test
     void findArticleById_ShouldReturnArticleWhenExists() {
         // Given
         String publicId = "test-uuid-123";
-        when(articleRepository.findByPublicId(publicId)).thenReturn(Optional.of(savedArticle));
+        when(articleRepository.findWithDescriptionByPublicId(publicId)).thenReturn(Optional.of(savedArticle));
 
         // When
         ArticleResponseDTO result = articleService.findArticleById(publicId);
@@ -129,14 +292,15 @@ class ArticleServiceTest {
         assertThat(result.description()).isEqualTo("Test Description");
         assertThat(result.isPublished()).isFalse();
 
-        verify(articleRepository).findByPublicId(publicId);
+        verify(articleRepository).findWithDescriptionByPublicId(publicId);
+        verify(accessTracker).record(publicId);
     }
 
     @Test
     void findArticleById_ShouldThrowExceptionWhenNotFound() {
         // Given
         String publicId = "non-existent-uuid";
-        when(articleRepository.findByPublicId(publicId)).thenReturn(Optional.empty());
+        when(articleRepository.findWithDescriptionByPublicId(publicId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> articleService.findArticleById(publicId))
@@ -145,7 +309,107 @@ class ArticleServiceTest {
                 .extracting("status")
                 .isEqualTo(HttpStatus.NOT_FOUND);
 
-        verify(articleRepository).findByPublicId(publicId);
+        verify(articleRepository).findWithDescriptionByPublicId(publicId);
+        verify(accessTracker, never()).record(anyString());
+    }
+
+    @Test
+    void findArticleById_ShouldServeCachedArticleWithoutQuery() {
+        // Given
+        ArticleResponseDTO cached = ArticleResponseDTO.fromEntity(savedArticle);
+        when(readCache.get("test-uuid-123")).thenReturn(cached);
+
+        // When
+        ArticleResponseDTO result = articleService.findArticleById("test-uuid-123");
+
+        // Then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void findArticleById_ShouldServeSnapshotArticleWithoutQuery() {
+        // Given
+        ArticleResponseDTO snapshot = ArticleResponseDTO.fromEntity(savedArticle);
+        when(snapshotStore.get("test-uuid-123")).thenReturn(snapshot);
+
+        // When
+        ArticleResponseDTO result = articleService.findArticleById("test-uuid-123");
+
+        // Then
+        assertThat(result).isSameAs(snapshot);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void findArticleById_ShouldCacheLoadedArticleWithStampTakenBeforeQuery() {
+        // Given
+        when(readCache.stamp()).thenReturn(7L);
+        when(articleRepository.findWithDescriptionByPublicId("test-uuid-123")).thenReturn(Optional.of(savedArticle));
+
+        // When
+        articleService.findArticleById("test-uuid-123");
+
+        // Then
+        verify(readCache).put(7L, ArticleResponseDTO.fromEntity(savedArticle));
+    }
+
+    @Test
+    void findArticlesByIds_ShouldQueryOnlyCacheMissesAndPreserveRequestOrder() {
+        // Given
+        Article other = new Article(2L, "other-uuid", "Other Title", "Other Description", true);
+        ArticleResponseDTO cached = ArticleResponseDTO.fromEntity(other);
+        when(readCache.get(anyString())).thenReturn(null);
+        when(readCache.get("other-uuid")).thenReturn(cached);
+        when(articleRepository.findAllByPublicIds(aryEq(new String[] {"test-uuid-123", "missing-uuid"})))
+                .thenReturn(List.of(savedArticle));
+
+        // When
+        ArticleMultiGetResponseDTO result = articleService.findArticlesByIds(
+                List.of("test-uuid-123", "other-uuid", "missing-uuid", "test-uuid-123"));
+
+        // Then
+        assertThat(result.articles()).extracting(ArticleResponseDTO::id).containsExactly("test-uuid-123", "other-uuid");
+        assertThat(result.missing()).containsExactly("missing-uuid");
+        verify(readCache).put(anyLong(), eq(ArticleResponseDTO.fromEntity(savedArticle)));
+    }
+
+    @Test
+    void findArticlesByIds_ShouldSkipQueryWhenAllCached() {
+        // Given
+        when(readCache.get("test-uuid-123")).thenReturn(ArticleResponseDTO.fromEntity(savedArticle));
+
+        // When
+        ArticleMultiGetResponseDTO result = articleService.findArticlesByIds(List.of("test-uuid-123"));
+
+        // Then
+        assertThat(result.articles()).hasSize(1);
+        assertThat(result.missing()).isEmpty();
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void findArticleById_ShouldRejectIdsTheFilterRulesOutWithoutQuery() {
+        // Given
+        when(idFilter.definitelyAbsent("never-existed")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> articleService.findArticleById("never-existed"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void deleteArticle_ShouldRejectIdsTheFilterRulesOutWithoutQuery() {
+        // Given
+        when(idFilter.definitelyAbsent("never-existed")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> articleService.deleteArticle("never-existed"))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(articleRepository, eventPublisher);
     }
 
     @Test
@@ -153,13 +417,32 @@ class ArticleServiceTest {
         // Given
         String publicId = "test-uuid-123";
         when(articleRepository.findByPublicId(publicId)).thenReturn(Optional.of(savedArticle));
+        when(articleRepository.deleteByPublicId(publicId)).thenReturn(1);
 
         // When
         articleService.deleteArticle(publicId);
 
         // Then
         verify(articleRepository).findByPublicId(publicId);
-        verify(articleRepository).delete(savedArticle);
+        verify(articleRepository, never()).findWithDescriptionByPublicId(anyString());
+        verify(articleRepository).deleteByPublicId(publicId);
+        verify(eventPublisher).publishEvent(argThat((ArticleEvent event) ->
+                event.type() == ArticleEvent.Type.DELETED && event.publicId().equals(publicId)));
+    }
+
+    @Test
+    void deleteArticle_ShouldNotPublishWhenConcurrentDeleteRemovedRowFirst() {
+        // Given: the lookup still saw the row, but another transaction deleted it before us
+        String publicId = "test-uuid-123";
+        when(articleRepository.findByPublicId(publicId)).thenReturn(Optional.of(savedArticle));
+        when(articleRepository.deleteByPublicId(publicId)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> articleService.deleteArticle(publicId))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -176,6 +459,7 @@ class ArticleServiceTest {
                 .isEqualTo(HttpStatus.NOT_FOUND);
 
         verify(articleRepository).findByPublicId(publicId);
-        verify(articleRepository, never()).delete(any(Article.class));
+        verify(articleRepository, never()).deleteByPublicId(anyString());
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -0,0 +1,146 @@
+package com.democrud.services;
+
+import com.democrud.domain.Article;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleSnapshotStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private MutableClock clock;
+    private ArticleRepository articleRepository;
+    private ArticleReadCache readCache;
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        articleRepository = mock(ArticleRepository.class);
+        readCache = new ArticleReadCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 1000, clock);
+        path = directory.resolve("articles.snapshot");
+    }
+
+    @Test
+    void write_ShouldRoundTripArticlesThroughMappedFile() throws Exception {
+        List<ArticleResponseDTO> articles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            articles.add(new ArticleResponseDTO("uuid-" + i, "Title " + i, "Déscription " + i, i % 2 == 0));
+        }
+        articles.forEach(article -> readCache.put(readCache.stamp(), article));
+        store().write();
+
+        ArticleSnapshotStore restarted = store();
+        restarted.afterPropertiesSet();
+
+        for (ArticleResponseDTO article : articles) {
+            assertThat(restarted.get(article.id())).isEqualTo(article);
+        }
+        assertThat(restarted.get("uuid-unknown")).isNull();
+    }
+
+    @Test
+    void afterPropertiesSet_ShouldIgnoreSnapshotOlderThanMaxAge() throws Exception {
+        store().write(List.of(article("uuid-1")));
+        clock.advance(Duration.ofHours(2));
+
+        ArticleSnapshotStore restarted = store();
+        restarted.afterPropertiesSet();
+
+        assertThat(restarted.get("uuid-1")).isNull();
+    }
+
+    @Test
+    void get_ShouldStopServingAfterServeFor() throws Exception {
+        store().write(List.of(article("uuid-1")));
+        ArticleSnapshotStore restarted = store();
+        restarted.afterPropertiesSet();
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(restarted.get("uuid-1")).isNull();
+    }
+
+    @Test
+    void revalidate_ShouldMaskArticlesDeletedSinceSnapshot() throws Exception {
+        store().write(List.of(article("uuid-1"), article("uuid-2"), article("uuid-3")));
+        ArticleSnapshotStore restarted = store();
+        restarted.afterPropertiesSet();
+        when(articleRepository.findAllByPublicIds(any())).thenReturn(List.of(
+                new Article(1L, "uuid-1", "Title", "Description", false)));
+
+        restarted.revalidate(new ArticleSnapshotStore.Mapping(ByteBuffer.wrap(Files.readAllBytes(path))));
+        restarted.onArticleEvent(ArticleEvent.deleted("uuid-1", false));
+
+        assertThat(restarted.get("uuid-1")).isNull();
+        assertThat(restarted.get("uuid-2")).isNull();
+        assertThat(restarted.get("uuid-3")).isNull();
+    }
+
+    @Test
+    void afterPropertiesSet_ShouldStartColdOnCorruptFile() throws Exception {
+        Files.write(path, new byte[] {1, 2, 3});
+
+        ArticleSnapshotStore restarted = store();
+        restarted.afterPropertiesSet();
+
+        assertThat(restarted.get("uuid-1")).isNull();
+    }
+
+    private ArticleSnapshotStore store() {
+        return new ArticleSnapshotStore(readCache, articleRepository, new SimpleMeterRegistry(), true, path,
+                Duration.ofHours(1), Duration.ofMinutes(5), 1000, clock);
+    }
+
+    private static ArticleResponseDTO article(String id) {
+        return new ArticleResponseDTO(id, "Title " + id, "Description " + id, false);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
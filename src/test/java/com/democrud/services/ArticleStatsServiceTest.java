@@ -0,0 +1,133 @@
+package com.democrud.services;
+
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import com.democrud.repositories.ArticleCounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleStatsServiceTest {
+
+    @Mock
+    private ArticleCounterRepository counterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new ArticleStatsService(counterRepository, transactionManager, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(statsService);
+    }
+
+    @Test
+    void onArticleEvent_ShouldAddOneDeltaPerTransactionBeforeCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        statsService.onArticleEvent(ArticleEvent.created(article("uuid-1", true)));
+        statsService.onArticleEvent(ArticleEvent.created(article("uuid-2", false)));
+        statsService.onArticleEvent(ArticleEvent.deleted("uuid-3", false));
+        verify(counterRepository, never()).add(anyShort(), anyLong(), anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        verify(counterRepository).add(shortThat(stripe -> stripe >= 1 && stripe <= 16), eq(1L), eq(1L));
+        assertThat(TransactionSynchronizationManager.getResource(statsService)).isNull();
+    }
+
+    @Test
+    void onArticleEvent_ShouldNotCountRolledBackTransactions() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        statsService.onArticlesImported(new ArticlesImportedEvent(500, Instant.now()));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    void stats_ShouldSumStripes() {
+        // Given
+        when(counterRepository.sumCounters()).thenReturn(counts(10, 4));
+
+        // When & Then
+        assertThat(statsService.stats().unpublished()).isEqualTo(6);
+    }
+
+    @Test
+    void reconcile_ShouldAddDriftToReconciliationStripe() {
+        // Given
+        when(counterRepository.tryAdvisoryTransactionLock(anyLong())).thenReturn(true);
+        when(counterRepository.countArticles()).thenReturn(counts(100, 40));
+        when(counterRepository.sumCounters()).thenReturn(counts(103, 40));
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        verify(counterRepository).add(ArticleStatsService.RECONCILIATION_STRIPE, -3L, 0L);
+    }
+
+    @Test
+    void reconcile_ShouldSkipWhenAnotherNodeReconciles() {
+        // Given
+        when(counterRepository.tryAdvisoryTransactionLock(anyLong())).thenReturn(false);
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        verify(counterRepository, never()).countArticles();
+        verify(counterRepository, never()).add(anyShort(), anyLong(), anyLong());
+    }
+
+    private static ArticleResponseDTO article(String publicId, boolean published) {
+        return new ArticleResponseDTO(publicId, "Title", "Description", published);
+    }
+
+    private static ArticleCounterRepository.Counts counts(long total, long published) {
+        return new ArticleCounterRepository.Counts() {
+            @Override
+            public long getTotal() {
+                return total;
+            }
+
+            @Override
+            public long getPublished() {
+                return published;
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.democrud.services;
+
+import com.democrud.domain.ArticleViewCount;
+import com.democrud.repositories.ArticleViewCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ArticleViewCounterTest {
+
+    private ArticleViewCountRepository viewCountRepository;
+    private Map<String, Long> stored;
+
+    @BeforeEach
+    void setUp() {
+        viewCountRepository = mock(ArticleViewCountRepository.class);
+        stored = new HashMap<>();
+        when(viewCountRepository.addAll(any(), any())).thenAnswer(invocation -> {
+            String[] publicIds = invocation.getArgument(0);
+            long[] viewCounts = invocation.getArgument(1);
+            List<ArticleViewCount> totals = new ArrayList<>();
+            for (int i = 0; i < publicIds.length; i++) {
+                long total = stored.merge(publicIds[i], viewCounts[i], Long::sum);
+                totals.add(new ArticleViewCount(publicIds[i], total));
+            }
+            return totals;
+        });
+    }
+
+    @Test
+    void recordView_ShouldReportFlushedTotalPlusPendingViews() {
+        stored.put("uuid-1", 10L);
+        ArticleViewCounter counter = counter(100);
+
+        assertThat(counter.recordView("uuid-1")).isEqualTo(1);
+        assertThat(counter.recordView("uuid-1")).isEqualTo(2);
+        counter.flush();
+
+        assertThat(stored).containsEntry("uuid-1", 12L);
+        assertThat(counter.recordView("uuid-1")).isEqualTo(13);
+        verify(viewCountRepository, never()).findById(any());
+    }
+
+    @Test
+    void flush_ShouldEvictLeastRecentlyFlushedTotalsBeyondMaxTotals() {
+        ArticleViewCounter counter = counter(100, 2);
+        counter.recordView("uuid-1");
+        counter.recordView("uuid-2");
+        counter.flush();
+        counter.recordView("uuid-1");
+        counter.flush();
+        counter.recordView("uuid-3");
+        counter.flush();
+
+        assertThat(counter.recordView("uuid-1")).isEqualTo(3);
+        assertThat(counter.recordView("uuid-3")).isEqualTo(2);
+        assertThat(counter.recordView("uuid-2")).isEqualTo(1);
+        counter.flush();
+        assertThat(counter.recordView("uuid-2")).isEqualTo(3);
+    }
+
+    @Test
+    void flush_ShouldWriteAllArticlesInOneBatch() {
+        ArticleViewCounter counter = counter(100);
+        for (int i = 0; i < 50; i++) {
+            counter.recordView("uuid-" + (i % 5));
+        }
+
+        counter.flush();
+
+        ArgumentCaptor<String[]> publicIds = ArgumentCaptor.forClass(String[].class);
+        verify(viewCountRepository, times(1)).addAll(publicIds.capture(), any());
+        assertThat(publicIds.getValue()).hasSize(5);
+        assertThat(stored.values()).containsOnly(10L);
+    }
+
+    @Test
+    void flush_ShouldKeepViewsWhenWriteFails() {
+        ArticleViewCounter counter = counter(100);
+        counter.recordView("uuid-1");
+        doThrow(new IllegalStateException("database down")).when(viewCountRepository).addAll(any(), any());
+
+        counter.flush();
+        reset(viewCountRepository);
+        counter.destroy();
+
+        verify(viewCountRepository).addAll(new String[] {"uuid-1"}, new long[] {1});
+    }
+
+    @Test
+    void recordView_ShouldDropViewsOfNewArticlesWhenBufferIsFull() {
+        ArticleViewCounter counter = counter(2);
+        counter.recordView("uuid-1");
+        counter.recordView("uuid-2");
+        counter.recordView("uuid-3");
+        counter.recordView("uuid-1");
+
+        counter.flush();
+
+        assertThat(stored).containsOnlyKeys("uuid-1", "uuid-2").containsEntry("uuid-1", 2L);
+    }
+
+    @Test
+    void recordView_ShouldCountEveryViewExactlyOnceAcrossConcurrentFlushes() throws Exception {
+        ArticleViewCounter counter = counter(100);
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    counter.recordView("uuid-" + (i % 3));
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            counter.flush();
+        }
+        executor.shutdown();
+        counter.flush();
+
+        assertThat(stored.values().stream().mapToLong(Long::longValue).sum()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    private ArticleViewCounter counter(int maxPending) {
+        return counter(maxPending, 1000);
+    }
+
+    private ArticleViewCounter counter(int maxPending, int maxTotals) {
+        return new ArticleViewCounter(viewCountRepository, new SimpleMeterRegistry(), true, maxPending, maxTotals);
+    }
+}
@@ -0,0 +1,124 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.domain.Article;
+import com.democrud.repositories.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleWriteBehindQueueTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void enqueue_ShouldRejectWhenNotStarted() {
+        ArticleWriteBehindQueue queue = newQueue(true, 10);
+
+        assertThatThrownBy(() -> queue.enqueue(article("uuid-1")))
+                .isInstanceOf(ArticleException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get("articles.ingest.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getPhase_ShouldStopAfterWebServer() {
+        int phase = newQueue(true, 10).getPhase();
+
+        assertThat(ArticleWriteBehindQueue.WEB_SERVER_PHASE)
+                .isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE);
+        assertThat(phase).isLessThan(ArticleWriteBehindQueue.WEB_SERVER_PHASE);
+    }
+
+    @Test
+    void stop_ShouldDrainQueuedArticles() {
+        List<Article> persisted = new ArrayList<>();
+        when(articleRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            persisted.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        ArticleWriteBehindQueue queue = newQueue(true, 100);
+
+        queue.start();
+        for (int i = 0; i < 25; i++) {
+            queue.enqueue(article("uuid-" + i));
+        }
+        queue.stop();
+
+        assertThat(persisted).hasSize(25);
+        assertThat(queue.isRunning()).isFalse();
+        assertThat(meterRegistry.get("articles.ingest.batch.size").summary().totalAmount()).isEqualTo(25.0);
+        verify(eventPublisher, times(25)).publishEvent(any(ArticleEvent.class));
+    }
+
+    @Test
+    void flush_ShouldFallBackToSingleInsertsWhenBatchFails() {
+        when(articleRepository.saveAll(anyList())).thenThrow(new IllegalStateException("batch failed"));
+        when(articleRepository.save(any(Article.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new IllegalStateException("bad row"));
+        ArticleWriteBehindQueue queue = newQueue(true, 10);
+
+        queue.flush(List.of(article("uuid-1"), article("uuid-2")));
+
+        verify(articleRepository, times(2)).save(any(Article.class));
+        verify(eventPublisher, times(1)).publishEvent(any(ArticleEvent.class));
+        assertThat(meterRegistry.get("articles.ingest.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void start_ShouldNotStartWriterWhenDisabled() {
+        ArticleWriteBehindQueue queue = newQueue(false, 10);
+
+        queue.start();
+
+        assertThat(queue.isRunning()).isFalse();
+        assertThatThrownBy(() -> queue.enqueue(article("uuid-1"))).isInstanceOf(ArticleException.class);
+    }
+
+    private ArticleWriteBehindQueue newQueue(boolean enabled, int capacity) {
+        return new ArticleWriteBehindQueue(articleRepository, eventPublisher, transactionManager, meterRegistry,
+                enabled, capacity, 10, Duration.ofSeconds(5));
+    }
+
+    private static Article article(String publicId) {
+        Article article = new Article();
+        article.setPublicId(publicId);
+        article.setTitle("Title");
+        article.setDescription("Description");
+        return article;
+    }
+}
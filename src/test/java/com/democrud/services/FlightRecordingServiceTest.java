@@ -0,0 +1,88 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FlightRecordingService service;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.destroy();
+    }
+
+    @Test
+    void recordsApplicationEventsIntoFile() throws Exception {
+        service = new FlightRecordingService(tempDir, "default", DataSize.ofMegabytes(10));
+
+        CompletableFuture<Path> recording = service.record(Duration.ofMillis(500));
+        ArticleOperationEvent event = ArticleOperationEvent.begin("findById", "uuid-1");
+        event.db(() -> "row");
+        event.rows(1).complete();
+        Path file = recording.get(10, TimeUnit.SECONDS);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.democrud.ArticleOperation"))
+                .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("operation")).isEqualTo("findById");
+        assertThat(events.get(0).getInt("publicIdHash")).isEqualTo("uuid-1".hashCode());
+        assertThat(events.get(0).getInt("rows")).isEqualTo(1);
+        assertThat(service.isRecording()).isFalse();
+    }
+
+    @Test
+    void rejectsSecondRecordingWhileOneIsRunning() throws Exception {
+        service = new FlightRecordingService(tempDir, "default", DataSize.ofMegabytes(10));
+
+        CompletableFuture<Path> first = service.record(Duration.ofMillis(500));
+
+        assertThatThrownBy(() -> service.record(Duration.ofMillis(500)))
+                .isInstanceOfSatisfying(ArticleException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        first.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void keepsEachRecordingUntilDiscarded() throws Exception {
+        service = new FlightRecordingService(tempDir, "default", DataSize.ofMegabytes(10));
+
+        Path first = service.record(Duration.ofMillis(100)).get(10, TimeUnit.SECONDS);
+        Thread.sleep(5);
+        Path second = service.record(Duration.ofMillis(100)).get(10, TimeUnit.SECONDS);
+
+        assertThat(first).exists();
+        assertThat(second).exists();
+
+        service.discard(first);
+        assertThat(first).doesNotExist();
+        assertThat(second).exists();
+
+        service.destroy();
+
+        assertThat(second).doesNotExist();
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
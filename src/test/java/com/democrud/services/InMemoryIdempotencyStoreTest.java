@@ -0,0 +1,269 @@
+package com.democrud.services;
+
+import com.democrud.config.exception.ArticleException;
+import com.democrud.presentation.article.dto.ArticleResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryIdempotencyStoreTest {
+
+    private MutableClock clock;
+    private InMemoryIdempotencyStore store;
+    private AtomicInteger invocations;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        store = new InMemoryIdempotencyStore(Duration.ofMinutes(10), 2, Duration.ofSeconds(5), clock);
+        invocations = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldReplayRecordedResponseForSameKey() {
+        ArticleResponseDTO first = store.execute("key-1", "fp", this::create);
+        ArticleResponseDTO replay = store.execute("key-1", "fp", this::create);
+
+        assertThat(replay).isEqualTo(first);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void execute_ShouldRejectReusedKeyWithDifferentPayload() {
+        store.execute("key-1", "fp", this::create);
+
+        assertThatThrownBy(() -> store.execute("key-1", "other-fp", this::create))
+                .isInstanceOf(ArticleException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void execute_ShouldRunActionAgainAfterTtlExpires() {
+        store.execute("key-1", "fp", this::create);
+        clock.advance(Duration.ofMinutes(11));
+
+        store.execute("key-1", "fp", this::create);
+
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void execute_ShouldEvictEldestEntryWhenFull() {
+        store.execute("key-1", "fp", this::create);
+        store.execute("key-2", "fp", this::create);
+        store.execute("key-3", "fp", this::create);
+
+        assertThat(store.size()).isEqualTo(2);
+        store.execute("key-1", "fp", this::create);
+        assertThat(invocations).hasValue(4);
+    }
+
+    @Test
+    void execute_ShouldForgetKeyWhenActionFails() {
+        assertThatThrownBy(() -> store.execute("key-1", "fp", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        store.execute("key-1", "fp", this::create);
+
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void execute_ShouldNotEvictEntryStillInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ArticleResponseDTO> slow = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "fp", () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }), executor);
+        started.await(5, TimeUnit.SECONDS);
+
+        store.execute("key-2", "fp", this::create);
+        store.execute("key-3", "fp", this::create);
+        release.countDown();
+        ArticleResponseDTO first = slow.get(5, TimeUnit.SECONDS);
+
+        assertThat(store.execute("key-1", "fp", this::create)).isEqualTo(first);
+        assertThat(invocations).hasValue(3);
+    }
+
+    @Test
+    void execute_ShouldGiveUpWaitingAfterTimeout() throws Exception {
+        store = new InMemoryIdempotencyStore(Duration.ofMinutes(10), 2, Duration.ofMillis(50), clock);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ArticleResponseDTO> slow = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "fp", () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }), executor);
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> store.execute("key-1", "fp", this::create))
+                .isInstanceOf(ArticleException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.CONFLICT);
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void execute_ShouldPassOwnerFailureToWaiters() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ArticleResponseDTO> failing = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "fp", () -> {
+                    started.countDown();
+                    await(release);
+                    throw ArticleException.invalidData("boom");
+                }), executor);
+        started.await(5, TimeUnit.SECONDS);
+
+        CompletableFuture<ArticleResponseDTO> waiter = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "fp", this::create), executor);
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ArticleException.class)
+                .cause()
+                .extracting("status")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ArticleException.class);
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    void execute_ShouldReleaseWaitersOnlyAfterCommit() throws Exception {
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<ArticleResponseDTO> owner = CompletableFuture.supplyAsync(() ->
+                inTransaction(true, created, commit), executor);
+        created.await(5, TimeUnit.SECONDS);
+
+        CompletableFuture<ArticleResponseDTO> waiter = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "fp", this::create), executor);
+        Thread.sleep(100);
+        assertThat(waiter).isNotDone();
+
+        commit.countDown();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(owner.get(5, TimeUnit.SECONDS));
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void execute_ShouldFailWaitersAndForgetKeyOnRollback() throws Exception {
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch rollback = new CountDownLatch(1);
+        CompletableFuture<ArticleResponseDTO> owner = CompletableFuture.supplyAsync(() ->
+                inTransaction(false, created, rollback), executor);
+        created.await(5, TimeUnit.SECONDS);
+
+        CompletableFuture<ArticleResponseDTO> waiter = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "fp", this::create), executor);
+        Thread.sleep(100);
+        rollback.countDown();
+        owner.get(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ArticleException.class)
+                .cause()
+                .extracting("status")
+                .isEqualTo(HttpStatus.CONFLICT);
+        store.execute("key-1", "fp", this::create);
+        assertThat(invocations).hasValue(2);
+    }
+
+    /**
+     * Runs key-1 inside a simulated surrounding transaction that completes once
+     * {@code complete} is released.
+     */
+    private ArticleResponseDTO inTransaction(boolean commit, CountDownLatch created, CountDownLatch complete) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ArticleResponseDTO response = store.execute("key-1", "fp", this::create);
+            created.countDown();
+            await(complete);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+            return response;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ArticleResponseDTO create() {
+        int n = invocations.incrementAndGet();
+        return new ArticleResponseDTO("uuid-" + n, "Title", "Description", false);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.democrud.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadCoalescerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldShareOneReadBetweenConcurrentCallersForSameKey() throws Exception {
+        ReadCoalescer coalescer = new ReadCoalescer(new SimpleMeterRegistry(), true, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("uuid-1", () -> blockingRead(release)));
+        awaitInFlight(coalescer);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> coalescer.execute("uuid-1", () -> blockingRead(release))));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("article");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("article");
+        }
+        assertThat(reads).hasValue(1);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_ShouldNotShareReadsAcrossKeys() {
+        ReadCoalescer coalescer = new ReadCoalescer(new SimpleMeterRegistry(), true, Duration.ofSeconds(5));
+
+        coalescer.execute("uuid-1", this::read);
+        coalescer.execute("uuid-2", this::read);
+
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    void execute_ShouldReadIndependentlyOnceMaxWaitElapses() throws Exception {
+        ReadCoalescer coalescer = new ReadCoalescer(new SimpleMeterRegistry(), true, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("uuid-1", () -> blockingRead(release)));
+        awaitInFlight(coalescer);
+
+        assertThat(coalescer.execute("uuid-1", this::read)).isEqualTo("article");
+        assertThat(reads).as("read without waiting for the stuck leader").hasValue(1);
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    void execute_ShouldPropagateLeaderFailureToFollowers() throws Exception {
+        ReadCoalescer coalescer = new ReadCoalescer(new SimpleMeterRegistry(), true, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("uuid-1", () -> {
+            blockingRead(release);
+            throw new IllegalArgumentException("not found");
+        }));
+        awaitInFlight(coalescer);
+        Future<String> follower = executor.submit(() -> coalescer.execute("uuid-1", this::read));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(reads).hasValue(1);
+    }
+
+    private String read() {
+        reads.incrementAndGet();
+        return "article";
+    }
+
+    private String blockingRead(CountDownLatch release) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return read();
+    }
+
+    private static void awaitInFlight(ReadCoalescer coalescer) throws InterruptedException {
+        for (int i = 0; i < 500 && coalescer.inFlightCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+}